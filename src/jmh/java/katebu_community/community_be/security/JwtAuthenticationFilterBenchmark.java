@@ -0,0 +1,84 @@
+package katebu_community.community_be.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+// 인증 필터의 요청당 비용 측정 (./gradlew jmh)
+// - cachedToken: 검증된 토큰 캐시 사용 (같은 토큰 반복 요청)
+// - uncachedToken: 캐시 없이 요청마다 서명 검증 한 번
+// - legacyDoubleParse: 기존 방식 (요청마다 파서 생성 + 검증/추출로 두 번 파싱), 검증 부분만 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "MDEyMzQ1Njc4OUFCQ0RFRjAxMjM0NTY3ODlBQkNERUY=";
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private SecretKey key;
+    private String token;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider cachedProvider = provider(10_000);
+        JwtTokenProvider uncachedProvider = provider(0);
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider);
+        uncachedFilter = new JwtAuthenticationFilter(uncachedProvider);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = cachedProvider.createToken(123L);
+    }
+
+    @Benchmark
+    public int cachedToken() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public int uncachedToken() throws Exception {
+        return filter(uncachedFilter);
+    }
+
+    @Benchmark
+    public void legacyDoubleParse(Blackhole blackhole) {
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token));
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    // 인증이 필요한 요청 한 건을 필터에 통과시키고 응답 상태 반환
+    private int filter(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.setServletPath("/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+
+    private static JwtTokenProvider provider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", SECRET);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+}
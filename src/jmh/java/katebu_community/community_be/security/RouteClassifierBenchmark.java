@@ -0,0 +1,57 @@
+package katebu_community.community_be.security;
+
+import katebu_community.community_be.security.RouteClassifier.Route;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 경로 분류 비용 비교 (./gradlew jmh)
+// - legacyRegex: 기존 필터 방식 (요청마다 String.matches로 Pattern 컴파일)
+// - classifier: RouteClassifier (문자 단위 비교, 객체 생성 없음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteClassifierBenchmark {
+
+    // 실제 요청 분포와 비슷하게 공개 조회/인증 필요 요청을 섞음
+    private final String[] methods = {"GET", "GET", "GET", "GET", "POST", "PATCH", "GET", "DELETE"};
+    private final String[] paths = {
+            "/posts", "/posts/1234", "/posts/1234/comments", "/user/42/posts",
+            "/posts/1234/likes", "/user/password", "/posts/trending", "/posts/1234/comments/99"};
+
+    @Benchmark
+    public void legacyRegex(Blackhole blackhole) {
+        for (int i = 0; i < paths.length; i++) {
+            blackhole.consume(legacyClassify(methods[i], paths[i]));
+        }
+    }
+
+    @Benchmark
+    public void classifier(Blackhole blackhole) {
+        for (int i = 0; i < paths.length; i++) {
+            blackhole.consume(RouteClassifier.classify(methods[i], paths[i]));
+        }
+    }
+
+    // 기존 JwtAuthenticationFilter의 판단 (startsWith + String.matches)
+    private static Route legacyClassify(String method, String path) {
+        if (path.startsWith("/uploads/")) {
+            return Route.UPLOADS;
+        }
+        if (path.startsWith("/auth")) {
+            return Route.AUTH;
+        }
+        if ("GET".equalsIgnoreCase(method) &&
+                (path.equals("/posts") || path.equals("/posts/search") || path.equals("/posts/trending") || path.matches("^/posts/\\d+$") || path.matches("^/posts/\\d+/comments$")
+                        || path.matches("^/user/\\d+/posts$"))) {
+            return Route.PUBLIC_READ;
+        }
+        return Route.PROTECTED;
+    }
+}
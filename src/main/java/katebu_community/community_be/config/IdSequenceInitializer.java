@@ -0,0 +1,37 @@
+package katebu_community.community_be.config;
+
+import jakarta.annotation.PostConstruct;
+import katebu_community.community_be.domain.IdSequences;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// id_sequences 초기화
+// 기존 IDENTITY로 만든 행과 ID가 겹치지 않도록 시퀀스 값을 테이블의 MAX(id) 이후로 맞춤.
+// pooled 방식은 읽은 값 V에 대해 (V - ALLOCATION_SIZE, V] 범위를 발급하므로 MAX(id) + ALLOCATION_SIZE 이상으로 설정
+@Component
+@DependsOn("entityManagerFactory") // 스키마 생성 이후 실행
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    private static final List<String> SEQUENCES = List.of(
+            IdSequences.POSTS, IdSequences.COMMENTS, IdSequences.USERS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        for (String table : SEQUENCES) {
+            // 시퀀스 이름 = 테이블명 (상수 목록에서만 가져오므로 SQL에 직접 넣어도 안전)
+            jdbcTemplate.update(
+                    "INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") " +
+                            "SELECT ?, COALESCE(MAX(id), 0) + ? FROM " + table + " " +
+                            "ON DUPLICATE KEY UPDATE " + IdSequences.VALUE_COLUMN + " = " +
+                            "GREATEST(" + IdSequences.VALUE_COLUMN + ", VALUES(" + IdSequences.VALUE_COLUMN + "))",
+                    table, IdSequences.ALLOCATION_SIZE);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package katebu_community.community_be.config;
 
 import katebu_community.community_be.security.CustomAuthenticationEntryPoint;
 import katebu_community.community_be.security.JwtAuthenticationFilter;
+import katebu_community.community_be.security.RouteClassifier;
+import katebu_community.community_be.security.RouteClassifier.Route;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -14,7 +16,6 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.security.web.util.matcher.RegexRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -46,10 +47,9 @@ public class SecurityConfig {
                         exceptionHandling.authenticationEntryPoint(customAuthenticationEntryPoint)
                 ) // 토큰 만료 시 401 에러 반환하도록 설정
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/uploads/**").permitAll() // 이미지 요청
-                        .requestMatchers("/auth/login", "/auth/register").permitAll() // 로그인과 회원가입 API는 누구나 접근 가능
-                        .requestMatchers(HttpMethod.GET, "/posts", "/posts/*").permitAll()  // 게시글 목록 조회, 게시글 조회
-                        .requestMatchers(new RegexRequestMatcher("^/posts/\\d+/comments$", "GET")).permitAll() // 댓글 목록 조회
+                        .requestMatchers(RouteClassifier.matcher(Route.UPLOADS)).permitAll() // 이미지 요청
+                        .requestMatchers("/auth/login", "/auth/register", "/auth/refresh").permitAll() // 로그인, 회원가입, 토큰 재발급 API는 누구나 접근 가능
+                        .requestMatchers(RouteClassifier.matcher(Route.PUBLIC_READ)).permitAll() // 게시글 목록/상세 조회, 검색, 인기 게시글, 댓글 목록, 회원별 게시글 목록 (JwtAuthenticationFilter와 같은 규칙)
                         .anyRequest().authenticated() // 나머지 요청은 인증 필요
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // JWT를 사용할 거라 세션을 stateless로 설정
@@ -58,10 +58,10 @@ public class SecurityConfig {
         return http.build();
     }
 
-    // 비밀번호 암호화 설정
+    // 비밀번호 암호화 설정 (BCrypt cost는 security.bcrypt.strength, 실행은 PasswordHasher 풀에서)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     // CORS 정책 정의
@@ -71,6 +71,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(List.of("http://127.0.0.1:5500"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("ETag")); // 게시글 조회 조건부 요청용
         config.setAllowCredentials(true); // 토큰 같이 보낼 수 있도록
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
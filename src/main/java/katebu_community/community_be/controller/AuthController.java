@@ -1,14 +1,22 @@
 package katebu_community.community_be.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import katebu_community.community_be.dto.ApiResponse;
 import katebu_community.community_be.dto.LoginRequestDto;
 import katebu_community.community_be.dto.LoginResponseDto;
+import katebu_community.community_be.dto.RefreshTokenRequestDto;
+import katebu_community.community_be.dto.TokenResponseDto;
 import katebu_community.community_be.exception.DuplicateException;
 import katebu_community.community_be.exception.EmailNotFoundException;
 import katebu_community.community_be.exception.InvalidInputException;
 import katebu_community.community_be.exception.InvalidPasswordException;
+import katebu_community.community_be.exception.InvalidRefreshTokenException;
+import katebu_community.community_be.exception.ServiceBusyException;
+import katebu_community.community_be.exception.TooManyRequestsException;
 import katebu_community.community_be.service.AuthService;
+import katebu_community.community_be.service.LoginRateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +30,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
     // 회원가입
     @PostMapping("/register")
@@ -58,6 +67,12 @@ public class AuthController {
             return ResponseEntity
                     .status(HttpStatus.CONFLICT)
                     .body(Map.of("message", e.getMessage()));
+        } catch (ServiceBusyException e) {
+            // 비밀번호 해시 풀 포화
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("message", e.getMessage()));
         }
 //        catch (IOException e) {
 //            // 이미지 업로드 실패
@@ -69,8 +84,11 @@ public class AuthController {
 
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequestDto loginRequestDto) {
+    public ResponseEntity<?> login(@RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
         try {
+            // 시도 횟수 제한 (DB 조회, 비밀번호 검증 전에 확인)
+            loginRateLimiter.acquire(loginRequestDto.getEmail(), request.getRemoteAddr());
+
             LoginResponseDto responseDto = authService.login(loginRequestDto); // 비즈니스 로직
             return ResponseEntity
                     .ok(new ApiResponse("로그인 성공", responseDto));
@@ -84,6 +102,41 @@ public class AuthController {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .body(new ApiResponse(e.getMessage(), null));
+        } catch (TooManyRequestsException e) {
+            // 로그인 시도 횟수 초과
+            return ResponseEntity
+                    .status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new ApiResponse(e.getMessage(), null));
+        } catch (ServiceBusyException e) {
+            // 비밀번호 검증 풀 포화 (요청 스레드를 붙잡지 않고 바로 거절)
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ApiResponse(e.getMessage(), null));
+        }
+    }
+
+    // 액세스 토큰 재발급 (리프레시 토큰은 사용할 때마다 새 토큰으로 교체)
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenRequestDto requestDto) {
+        // 필수 입력값 체크
+        String refreshToken = requestDto.getRefreshToken();
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return ResponseEntity
+                    .badRequest()
+                    .body(new ApiResponse("필수 입력값 누락", null));
+        }
+
+        try {
+            TokenResponseDto responseDto = authService.refresh(refreshToken);
+            return ResponseEntity
+                    .ok(new ApiResponse("토큰 재발급 성공", responseDto));
+        } catch (InvalidRefreshTokenException e) {
+            // 없거나 만료되었거나 이미 사용된 토큰
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse(e.getMessage(), null));
         }
     }
 }
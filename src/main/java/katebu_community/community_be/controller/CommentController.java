@@ -4,6 +4,7 @@ import katebu_community.community_be.dto.ApiResponse;
 import katebu_community.community_be.dto.CommentListResponseDto;
 import katebu_community.community_be.dto.CommentRequestDto;
 import katebu_community.community_be.exception.CommentNotFoundException;
+import katebu_community.community_be.exception.EmailNotFoundException;
 import katebu_community.community_be.exception.PostNotFoundException;
 import katebu_community.community_be.exception.UnauthorizedException;
 import katebu_community.community_be.service.CommentService;
@@ -44,6 +45,11 @@ public class CommentController {
             return ResponseEntity
                     .status(HttpStatus.CREATED)
                     .body(new ApiResponse("댓글 작성 성공", Map.of("commentId", commentId)));
+        } catch (EmailNotFoundException e) {
+            // 회원정보를 찾지 못한 경우 (탈퇴한 회원 포함)
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse(e.getMessage(), null));
         } catch (PostNotFoundException e) {
             // 게시글 조회 실패
             return ResponseEntity
@@ -132,7 +138,9 @@ public class CommentController {
     @GetMapping
     public ResponseEntity<ApiResponse> getComments(
             @PathVariable("postid") Long postId,
-            @AuthenticationPrincipal Long userId) {
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         // postId 유효성 검사
         if (postId == null || postId <= 0) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -141,7 +149,7 @@ public class CommentController {
 
         // 댓글 목록 조회 로직 호출
         try {
-            CommentListResponseDto responseDto = commentService.getComments(userId, postId);
+            CommentListResponseDto responseDto = commentService.getComments(userId, postId, cursor, size);
             // 성공
             return ResponseEntity
                     .ok(new ApiResponse("댓글 목록 조회 성공", responseDto));
@@ -150,6 +158,11 @@ public class CommentController {
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(new ApiResponse("게시글 없음", null));
+        } catch (IllegalArgumentException e) {
+            // 커서 또는 페이지 크기 오류
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse("잘못된 요청", null));
         }
     }
 }
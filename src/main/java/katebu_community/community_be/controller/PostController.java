@@ -3,12 +3,16 @@ package katebu_community.community_be.controller;
 import katebu_community.community_be.dto.ApiResponse;
 import katebu_community.community_be.dto.PostDetailDto;
 import katebu_community.community_be.dto.PostListResponseDto;
+import katebu_community.community_be.dto.PostSearchResponseDto;
+import katebu_community.community_be.dto.PostSummaryDto;
 import katebu_community.community_be.exception.AlreadyLikedException;
 import katebu_community.community_be.exception.AlreadyUnlikedException;
+import katebu_community.community_be.exception.EmailNotFoundException;
 import katebu_community.community_be.exception.PostNotFoundException;
 import katebu_community.community_be.exception.UnauthorizedException;
 import katebu_community.community_be.service.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +20,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -128,19 +133,33 @@ public class PostController {
     @GetMapping("/{postid}")
     public ResponseEntity<ApiResponse> getPostDetail(
             @PathVariable("postid") Long postId,
-            @AuthenticationPrincipal Long userId) {
+            @AuthenticationPrincipal Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // 필수 입력 값 확인
         if (postId == null || postId <= 0) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new ApiResponse("잘못된 요청", null));
         }
 
+        // 변경되지 않았으면 DB 조회 없이 304 응답
+        if (ifNoneMatch != null) {
+            String etag = postService.findNotModifiedETag(userId, postId, ifNoneMatch);
+            if (etag != null) {
+                return ResponseEntity
+                        .status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .build();
+            }
+        }
+
         // 게시글 조회 로직 호출
         try {
             PostDetailDto postDto = postService.getPostDetail(userId, postId);
             // 성공
             return ResponseEntity
-                    .ok(new ApiResponse("게시글 조회 성공", postDto));
+                    .ok()
+                    .eTag(postDto.getEtag())
+                    .body(new ApiResponse("게시글 조회 성공", postDto));
         } catch (PostNotFoundException e) {
             // 게시글 없음
             return ResponseEntity
@@ -151,10 +170,16 @@ public class PostController {
 
     // 게시글 목록 조회
     @GetMapping
-    public ResponseEntity<?> getPosts(@RequestParam("page") int page) {
-        // 게시글 목록 조회 로직 호출
+    public ResponseEntity<?> getPosts(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        // 게시글 목록 조회 로직 호출 (page 값이 없으면 커서 방식으로 조회)
         try {
-            PostListResponseDto responseDto = postService.getPosts(page);
+            PostListResponseDto responseDto = (page != null)
+                    ? postService.getPosts(userId, page, withTotal)
+                    : postService.getPostsByCursor(userId, cursor);
             // 성공
             return ResponseEntity
                     .ok(new ApiResponse("게시글 목록 조회 성공", responseDto));
@@ -165,6 +190,43 @@ public class PostController {
         }
     }
 
+    // 게시글 검색
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> searchPosts(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        // 게시글 검색 로직 호출
+        try {
+            PostSearchResponseDto responseDto = postService.searchPosts(userId, query, size);
+            // 성공
+            return ResponseEntity
+                    .ok(new ApiResponse("게시글 검색 성공", responseDto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse("잘못된 요청", null));
+        }
+    }
+
+    // 인기 게시글 조회
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse> getTrendingPosts(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        // 인기 게시글 조회 로직 호출
+        try {
+            List<PostSummaryDto> posts = postService.getTrendingPosts(userId, size);
+            // 성공
+            return ResponseEntity
+                    .ok(new ApiResponse("인기 게시글 조회 성공", Map.of("posts", posts)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse("잘못된 요청", null));
+        }
+    }
+
     // 좋아요 추가
     @PostMapping("/{postid}/like")
     public ResponseEntity<ApiResponse> addLike(
@@ -177,6 +239,11 @@ public class PostController {
             // 성공
             return ResponseEntity
                     .ok(new ApiResponse("좋아요 추가 성공", null));
+        } catch (EmailNotFoundException e) {
+            // 회원정보를 찾지 못한 경우 (탈퇴한 회원 포함)
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse(e.getMessage(), null));
         } catch (PostNotFoundException e) {
             // 게시글 없음
             return ResponseEntity
@@ -1,10 +1,14 @@
 package katebu_community.community_be.controller;
 
 import katebu_community.community_be.dto.ApiResponse;
+import katebu_community.community_be.dto.PostListResponseDto;
 import katebu_community.community_be.exception.DuplicateException;
 import katebu_community.community_be.exception.EmailNotFoundException;
+import katebu_community.community_be.exception.ServiceBusyException;
+import katebu_community.community_be.service.PostService;
 import katebu_community.community_be.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,6 +23,7 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final PostService postService;
 
     // 회원정보 조회
     @GetMapping
@@ -41,6 +46,38 @@ public class UserController {
                 .ok(new ApiResponse("회원정보 조회 성공", Map.of("user", userDto)));
     }
 
+    // 회원별 게시글 목록 조회
+    @GetMapping("/{userid}/posts")
+    public ResponseEntity<?> getUserPosts(
+            @PathVariable("userid") Long writerId,
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        // writerId 유효성 검사
+        if (writerId == null || writerId <= 0) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse("잘못된 요청", null));
+        }
+
+        // 게시글 목록 조회 로직 호출
+        try {
+            PostListResponseDto responseDto = postService.getUserPosts(userId, writerId, cursor);
+            // 성공
+            return ResponseEntity
+                    .ok(new ApiResponse("회원 게시글 목록 조회 성공", responseDto));
+        } catch (EmailNotFoundException e) {
+            // 회원정보를 찾지 못한 경우
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse(e.getMessage(), null));
+        } catch (IllegalArgumentException e) {
+            // 커서 오류
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse("잘못된 요청", null));
+        }
+    }
+
     // 회원정보 수정
     @PatchMapping
     public ResponseEntity<?> updateUser(
@@ -99,6 +136,12 @@ public class UserController {
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(new ApiResponse(e.getMessage(), null));
+        } catch (ServiceBusyException e) {
+            // 비밀번호 해시 풀 포화
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ApiResponse(e.getMessage(), null));
         }
     }
 
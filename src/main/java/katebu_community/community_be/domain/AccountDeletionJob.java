@@ -0,0 +1,56 @@
+package katebu_community.community_be.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+// 회원 탈퇴 작업 (회원당 하나, 단계별 진행 상황을 저장해서 실패 시 이어서 실행)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "account_deletion_jobs",
+        indexes = @Index(name = "idx_account_deletion_jobs_phase", columnList = "phase"))
+public class AccountDeletionJob {
+
+    // 탈퇴할 회원 ID (회원 삭제 후에도 기록을 남기기 위해 FK 없이 저장)
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // MySQL enum 타입 대신 VARCHAR (마이그레이션 스키마와 일치)
+    @Column(nullable = false, length = 20)
+    private Phase phase;
+
+    // 지금까지 삭제/처리한 행 수
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    // 실패 횟수와 마지막 오류
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 좋아요 -> 댓글 -> 게시글 soft-delete -> 게시글 정리 -> 회원 삭제 순으로 진행
+    public enum Phase {
+        LIKES, COMMENTS, POSTS, PURGE, USER, DONE
+    }
+}
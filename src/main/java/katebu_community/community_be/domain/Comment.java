@@ -13,11 +13,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = @Index(name = "idx_comments_post_created_id", columnList = "post_id, created_at, id"))
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator") // pooled (IdSequences 참고)
+    @TableGenerator(name = "comment_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.COMMENTS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     // 게시글
@@ -0,0 +1,20 @@
+package katebu_community.community_be.domain;
+
+// 테이블 기반 ID 생성 설정 (@TableGenerator)
+// IDENTITY는 INSERT마다 생성된 키를 받아야 해서 JDBC 배치가 꺼지므로,
+// id_sequences 테이블에서 ALLOCATION_SIZE개씩 미리 할당받아(pooled) 메모리에서 ID를 발급
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 이름 (엔티티 테이블명과 동일)
+    public static final String POSTS = "posts";
+    public static final String COMMENTS = "comments";
+    public static final String USERS = "users";
+
+    private IdSequences() {
+    }
+}
@@ -9,11 +9,13 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "likes")
+@Table(name = "likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_likes_post_user", columnNames = {"post_id", "user_id"}),
+        indexes = @Index(name = "idx_likes_user_post", columnList = "user_id, post_id"))
 public class Likes {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // 좋아요는 네이티브 INSERT IGNORE로만 추가하므로 IDENTITY 유지
     private Long id;
 
     @Column(name = "post_id", nullable = false)
@@ -3,6 +3,7 @@ package katebu_community.community_be.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,11 +14,20 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "posts")
+@Table(name = "posts",
+        indexes = {
+                @Index(name = "idx_posts_created_id", columnList = "created_at, id"),
+                @Index(name = "idx_posts_user_created_id", columnList = "user_id, created_at, id"),
+                @Index(name = "idx_posts_deleted", columnList = "deleted")
+        })
+@SQLRestriction("deleted = false") // soft-delete된 게시글은 조회 대상에서 제외
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // auto increment
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator") // pooled (IdSequences 참고)
+    @TableGenerator(name = "post_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.POSTS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     // 작성자 (User와 연관관계 설정)
@@ -51,6 +61,10 @@ public class Post {
     @Column(name = "comment_cnt", nullable = false)
     private int commentCnt;
 
+    // soft-delete 여부 (true면 PostPurgeJob이 댓글/좋아요와 함께 정리)
+    @Column(nullable = false)
+    private boolean deleted;
+
     @PrePersist
     protected void onCreate() {
         this.viewCnt = 0;
@@ -0,0 +1,46 @@
+package katebu_community.community_be.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 리프레시 토큰 (토큰 원문 대신 SHA-256 다이제스트만 저장)
+// 사용할 때마다 같은 family의 새 토큰으로 교체하고, 이미 사용된 토큰이 다시 오면 family 전체 삭제
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_tokens_expires", columnList = "expires_at")
+        })
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
+    // 회원 삭제 시 함께 정리하므로 FK 없이 저장
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 로그인 한 번에서 이어지는 토큰 묶음 (재사용 감지 시 함께 폐기)
+    @Column(name = "family_id", nullable = false)
+    private Long familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 새 토큰으로 교체되었는지 여부
+    @Column(nullable = false)
+    private boolean used;
+}
@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator") // pooled (IdSequences 참고)
+    @TableGenerator(name = "user_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.USERS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -39,4 +42,8 @@ public class User {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // 탈퇴 처리 중인 계정 (로그인/조회 불가, AccountDeletionJobRunner가 삭제)
+    @Column(nullable = false)
+    private boolean disabled;
 }
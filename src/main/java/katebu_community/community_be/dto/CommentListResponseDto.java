@@ -13,4 +13,6 @@ public class CommentListResponseDto {
     private Long postId;
     private int commentCnt;
     private List<CommentSummaryDto> commentList;
+    private boolean hasNext;          // 다음 페이지 존재 여부
+    private String nextCursor;        // 다음 페이지 커서 (마지막 페이지면 null)
 }
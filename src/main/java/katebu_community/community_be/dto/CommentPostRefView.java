@@ -0,0 +1,7 @@
+package katebu_community.community_be.dto;
+
+// 댓글 ID와 게시글 ID만 담는 프로젝션 (댓글 수 보정용)
+public interface CommentPostRefView {
+    Long getCommentId();
+    Long getPostId();
+}
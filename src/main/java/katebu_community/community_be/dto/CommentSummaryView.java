@@ -0,0 +1,13 @@
+package katebu_community.community_be.dto;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 조회용 프로젝션 (작성자 정보까지 한 번의 조인으로 조회)
+public interface CommentSummaryView {
+    Long getCommentId();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    Long getWriterId();
+    String getWriterName();
+    String getWriterImg();
+}
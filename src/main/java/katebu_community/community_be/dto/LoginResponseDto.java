@@ -10,4 +10,5 @@ import lombok.Setter;
 public class LoginResponseDto {
     private UserDto user;
     private String token;
+    private String refreshToken;
 }
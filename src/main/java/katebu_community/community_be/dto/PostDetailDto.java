@@ -1,5 +1,6 @@
 package katebu_community.community_be.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,4 +22,6 @@ public class PostDetailDto {
     private WriterDto writer;        // 작성자 정보 객체
     private boolean liked;
     private boolean author;
+    @JsonIgnore
+    private String etag;             // 응답 헤더용 ETag
 }
\ No newline at end of file
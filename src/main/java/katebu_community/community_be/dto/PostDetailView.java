@@ -0,0 +1,20 @@
+package katebu_community.community_be.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 조회용 프로젝션 (작성자 정보와 조회자의 좋아요 여부까지 한 번의 쿼리로 조회)
+public interface PostDetailView {
+    Long getPostId();
+    String getTitle();
+    String getContent();
+    String getImgUrl();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    int getLikeCnt();
+    int getCommentCnt();
+    int getViewCnt();
+    Long getWriterId();
+    String getWriterName();
+    String getWriterImg();
+    boolean isLiked();
+}
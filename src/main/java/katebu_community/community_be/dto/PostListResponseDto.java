@@ -1,5 +1,6 @@
 package katebu_community.community_be.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,10 +13,13 @@ import java.util.List;
 public class PostListResponseDto {
     private List<PostSummaryDto> posts;
     private PageableInfoDto pageable; // "pageable": { "pageNumber": 1, "pageSize": 10, "offset": 10 }
-    private int totalPages;
-    private long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;       // withTotal 요청 시에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;       // withTotal 요청 시에만 포함 (캐시된 근사값)
     private boolean last;
     private boolean first;
     private int size;
     private int number;
+    private String nextCursor;        // 커서 방식 조회 시 다음 페이지 커서 (마지막 페이지면 null)
 }
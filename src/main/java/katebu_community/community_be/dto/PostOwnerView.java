@@ -0,0 +1,8 @@
+package katebu_community.community_be.dto;
+
+// 게시글 삭제용 프로젝션 (권한 확인, 삭제 방식 결정에 필요한 컬럼만 조회, 본문 제외)
+public interface PostOwnerView {
+    Long getWriterId();
+    int getCommentCnt();
+    String getImgUrl();
+}
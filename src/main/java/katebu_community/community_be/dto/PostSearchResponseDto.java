@@ -0,0 +1,15 @@
+package katebu_community.community_be.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class PostSearchResponseDto {
+    private String query;
+    private List<PostSummaryDto> posts; // 관련도와 최신순을 반영한 점수 순
+}
@@ -0,0 +1,11 @@
+package katebu_community.community_be.dto;
+
+import java.time.LocalDateTime;
+
+// 검색 색인용 프로젝션 (제목, 본문, 작성일)
+public interface PostSearchSourceView {
+    Long getPostId();
+    String getTitle();
+    String getContent();
+    LocalDateTime getCreatedAt();
+}
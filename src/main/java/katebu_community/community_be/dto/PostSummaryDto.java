@@ -1,5 +1,6 @@
 package katebu_community.community_be.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,4 +20,6 @@ public class PostSummaryDto {
     private Long writerId;
     private String writerName;
     private String writerImg;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean liked;           // 로그인한 경우에만 포함
 }
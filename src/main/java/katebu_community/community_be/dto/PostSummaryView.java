@@ -0,0 +1,16 @@
+package katebu_community.community_be.dto;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회용 프로젝션 (작성자 정보까지 한 번의 조인으로 조회)
+public interface PostSummaryView {
+    Long getPostId();
+    String getTitle();
+    LocalDateTime getCreatedAt();
+    int getLikeCnt();
+    int getCommentCnt();
+    int getViewCnt();
+    Long getWriterId();
+    String getWriterName();
+    String getWriterImg();
+}
@@ -0,0 +1,10 @@
+package katebu_community.community_be.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenRequestDto {
+    private String refreshToken;
+}
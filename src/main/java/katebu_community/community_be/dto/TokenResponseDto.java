@@ -0,0 +1,13 @@
+package katebu_community.community_be.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class TokenResponseDto {
+    private String token;         // 새 액세스 토큰
+    private String refreshToken;  // 교체된 리프레시 토큰 (이전 토큰은 더 이상 사용 불가)
+}
@@ -0,0 +1,5 @@
+package katebu_community.community_be.event;
+
+// 더 이상 사용되지 않는 업로드 이미지 (트랜잭션 커밋 후 파일 삭제에 사용)
+public record ImageDiscardedEvent(String imageUrl) {
+}
@@ -0,0 +1,5 @@
+package katebu_community.community_be.event;
+
+// 좋아요 추가/취소 이벤트
+public record LikeChangedEvent(Long userId, Long postId, boolean liked) {
+}
@@ -0,0 +1,9 @@
+package katebu_community.community_be.event;
+
+// 게시글 작성/수정/삭제 이벤트 (트랜잭션 커밋 후 캐시 무효화 등에 사용)
+public record PostChangedEvent(Long postId, Type type) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,17 @@
+package katebu_community.community_be.event;
+
+// 게시글 조회수/좋아요 수/댓글 수 변경 이벤트 (증감량)
+public record PostCountersChangedEvent(Long postId, int viewDelta, int likeDelta, int commentDelta) {
+
+    public static PostCountersChangedEvent viewed(Long postId) {
+        return new PostCountersChangedEvent(postId, 1, 0, 0);
+    }
+
+    public static PostCountersChangedEvent liked(Long postId, int delta) {
+        return new PostCountersChangedEvent(postId, 0, delta, 0);
+    }
+
+    public static PostCountersChangedEvent commented(Long postId, int delta) {
+        return new PostCountersChangedEvent(postId, 0, 0, delta);
+    }
+}
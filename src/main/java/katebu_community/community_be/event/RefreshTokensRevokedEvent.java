@@ -0,0 +1,5 @@
+package katebu_community.community_be.event;
+
+// 회원의 리프레시 토큰 전체 폐기 (커밋 후 메모리 인덱스에서도 제거)
+public record RefreshTokensRevokedEvent(Long userId) {
+}
@@ -0,0 +1,5 @@
+package katebu_community.community_be.event;
+
+// 회원 닉네임/프로필 이미지 변경 및 탈퇴 이벤트 (작성자 정보가 담긴 캐시 무효화에 사용)
+public record UserProfileChangedEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package katebu_community.community_be.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package katebu_community.community_be.repository;
+
+import katebu_community.community_be.domain.AccountDeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AccountDeletionJobRepository extends JpaRepository<AccountDeletionJob, Long> {
+    List<AccountDeletionJob> findByPhaseNotOrderByCreatedAtAsc(AccountDeletionJob.Phase phase); // 진행 중인 작업 목록
+}
@@ -1,13 +1,62 @@
 package katebu_community.community_be.repository;
 
 import katebu_community.community_be.domain.Comment;
-import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.dto.CommentPostRefView;
+import katebu_community.community_be.dto.CommentSummaryView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    void deleteByPostId(Long postId);
+
+    // 목록 조회용 프로젝션 (작성자 조인)
+    String SUMMARY_SELECT = "SELECT c.id AS commentId, c.content AS content, c.createdAt AS createdAt, " +
+            "u.id AS writerId, u.nickname AS writerName, u.profileUrl AS writerImg " +
+            "FROM Comment c JOIN c.user u ";
+
     List<Comment> findAllByPostId(Long postId);
-    List<Comment> findByPostOrderByCreatedAtAsc(Post post);
+    boolean existsByUserId(Long userId);
+    boolean existsByIdAndPostId(Long id, Long postId);
+
+    // 게시글의 댓글 목록 조회 (작성순, comments(post_id, created_at, id) 인덱스 사용)
+    @Query(SUMMARY_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentSummaryView> findSummariesByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 커서 (createdAt, id) 이후의 댓글 조회
+    @Query(SUMMARY_SELECT +
+            "WHERE c.post.id = :postId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentSummaryView> findSummariesByPostIdAfter(@Param("postId") Long postId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
+
+    // 작성자 본인의 댓글 삭제 (엔티티를 로드하지 않고 DELETE 한 번, 게시글/작성자가 다르면 0 반환)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id AND c.post.id = :postId AND c.user.id = :userId")
+    int deleteByIdAndPostIdAndUserId(@Param("id") Long id,
+                                     @Param("postId") Long postId,
+                                     @Param("userId") Long userId);
+
+    // 게시글의 댓글 일괄 삭제 (DELETE 한 번, 삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteByPostIdInBulk(@Param("postId") Long postId);
+
+    // 게시글의 댓글을 최대 limit개 삭제 (백그라운드 정리용, 청크마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    // 사용자가 작성한 댓글 ID/게시글 ID 순차 조회
+    @Query("SELECT c.id AS commentId, c.post.id AS postId FROM Comment c WHERE c.user.id = :userId ORDER BY c.id ASC")
+    List<CommentPostRefView> findPostRefsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
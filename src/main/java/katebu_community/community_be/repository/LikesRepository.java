@@ -1,11 +1,51 @@
 package katebu_community.community_be.repository;
 
 import katebu_community.community_be.domain.Likes;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikesRepository extends JpaRepository<Likes, Long> {
     boolean existsByPostIdAndUserId(Long postId, Long userId); // 특정 게시글+사용자가 좋아요 했는지 확인
     Optional<Likes> findByPostIdAndUserId(Long postId, Long userId); // 특정 게시글+사용자 좋아요 조회
+    long countByPostId(Long postId); // 특정 게시글의 좋아요 행 수
+    List<Likes> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable); // 전체 좋아요 순차 조회 (ID 기준)
+    List<Likes> findByUserIdOrderByIdAsc(Long userId, Pageable pageable); // 사용자의 좋아요 순차 조회
+    boolean existsByUserId(Long userId); // 사용자의 좋아요가 남아 있는지 확인
+
+    // 사용자가 좋아요한 게시글 ID 목록
+    @Query("SELECT l.postId FROM Likes l WHERE l.userId = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    // 주어진 게시글 중 사용자가 좋아요한 게시글 ID 목록 (목록 페이지당 한 번 조회)
+    @Query("SELECT l.postId FROM Likes l WHERE l.userId = :userId AND l.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 추가 (유니크 제약 위반 시 무시, 추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (post_id, user_id) VALUES (:postId, :userId)", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserIdInBulk(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 게시글의 좋아요 일괄 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.postId = :postId")
+    int deleteByPostIdInBulk(@Param("postId") Long postId);
+
+    // 게시글의 좋아요를 최대 limit개 삭제 (백그라운드 정리용, 청크마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByPostId(@Param("postId") Long postId, @Param("limit") int limit);
 }
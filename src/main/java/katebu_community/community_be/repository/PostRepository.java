@@ -1,12 +1,153 @@
 package katebu_community.community_be.repository;
 
 import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.dto.PostDetailView;
+import katebu_community.community_be.dto.PostOwnerView;
+import katebu_community.community_be.dto.PostSearchSourceView;
+import katebu_community.community_be.dto.PostSummaryView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findByUserId(Long userId);
-    void deleteByUserId(Long userId);
-    List<Post> findAllByOrderByCreatedAtDesc(); // 최신순 정렬
+
+    // 목록 조회용 프로젝션 (본문 제외, 작성자 조인)
+    String SUMMARY_SELECT = "SELECT p.id AS postId, p.title AS title, p.createdAt AS createdAt, " +
+            "p.likeCnt AS likeCnt, p.commentCnt AS commentCnt, p.viewCnt AS viewCnt, " +
+            "u.id AS writerId, u.nickname AS writerName, u.profileUrl AS writerImg " +
+            "FROM Post p JOIN p.user u ";
+
+    boolean existsByUserId(Long userId);
+
+    // 오프셋 방식 목록 조회 (size+1개를 조회해서 다음 페이지 여부만 판단, count 쿼리 없음)
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryView> findSummarySlice(Pageable pageable);
+
+    // 커서 (createdAt, id) 이후의 게시글 조회
+    @Query(SUMMARY_SELECT +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryView> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // 회원의 게시글 목록 첫 페이지 (posts(user_id, created_at, id) 인덱스 사용)
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryView> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 회원의 게시글 중 커서 (createdAt, id) 이후 조회
+    @Query(SUMMARY_SELECT +
+            "WHERE u.id = :userId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryView> findSummariesByUserIdAfter(@Param("userId") Long userId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    // 게시글 상세 조회 (작성자 조인 + 조회자의 좋아요 여부를 EXISTS 서브쿼리로 함께 조회)
+    // userId가 null이면 liked는 false
+    @Query("SELECT p.id AS postId, p.title AS title, p.content AS content, p.imgUrl AS imgUrl, " +
+            "p.createdAt AS createdAt, p.updatedAt AS updatedAt, " +
+            "p.likeCnt AS likeCnt, p.commentCnt AS commentCnt, p.viewCnt AS viewCnt, " +
+            "u.id AS writerId, u.nickname AS writerName, u.profileUrl AS writerImg, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM Likes l WHERE l.postId = p.id AND l.userId = :userId) " +
+            "THEN true ELSE false END AS liked " +
+            "FROM Post p JOIN p.user u WHERE p.id = :postId")
+    Optional<PostDetailView> findDetailById(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 주어진 게시글들의 목록용 정보 (검색 결과 등, 순서는 호출하는 쪽에서 정렬)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :postIds")
+    List<PostSummaryView> findSummariesByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 검색 색인용 게시글 순차 조회 (ID 기준)
+    @Query("SELECT p.id AS postId, p.title AS title, p.content AS content, p.createdAt AS createdAt " +
+            "FROM Post p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<PostSearchSourceView> findSearchSourcesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 색인용 게시글 조회
+    @Query("SELECT p.id AS postId, p.title AS title, p.content AS content, p.createdAt AS createdAt " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostSearchSourceView> findSearchSourceById(@Param("postId") Long postId);
+
+    // 게시글의 댓글 수 조회 (게시글이 없으면 빈 값)
+    @Query("SELECT p.commentCnt FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findCommentCntById(@Param("postId") Long postId);
+
+    // 댓글 수 증가 (게시글이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCnt = p.commentCnt + 1 WHERE p.id = :postId AND p.deleted = false")
+    int incrementCommentCnt(@Param("postId") Long postId);
+
+    // 댓글 수 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCnt = p.commentCnt - 1 WHERE p.id = :postId AND p.commentCnt > 0")
+    int decrementCommentCnt(@Param("postId") Long postId);
+
+    // 게시글의 댓글 수를 count만큼 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCnt = CASE WHEN p.commentCnt > :count THEN p.commentCnt - :count ELSE 0 END " +
+            "WHERE p.id = :postId")
+    int decrementCommentCntBy(@Param("postId") Long postId, @Param("count") int count);
+
+    // 좋아요 수 증가 (게시글이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCnt = p.likeCnt + 1 WHERE p.id = :postId AND p.deleted = false")
+    int incrementLikeCnt(@Param("postId") Long postId);
+
+    // 좋아요 수 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCnt = p.likeCnt - 1 WHERE p.id = :postId AND p.likeCnt > 0")
+    int decrementLikeCnt(@Param("postId") Long postId);
+
+    // 여러 게시글의 좋아요 수 1씩 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCnt = p.likeCnt - 1 WHERE p.id IN :postIds AND p.likeCnt > 0")
+    int decrementLikeCntIn(@Param("postIds") Collection<Long> postIds);
+
+    // 회원의 게시글 ID 순차 조회 (soft-delete된 게시글 제외)
+    @Query("SELECT p.id FROM Post p WHERE p.user.id = :userId ORDER BY p.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 게시글 본문 이미지 URL 목록
+    @Query("SELECT p.imgUrl FROM Post p WHERE p.id IN :postIds AND p.imgUrl IS NOT NULL")
+    List<String> findImgUrlsByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 게시글 삭제 전 확인용 정보 (본문 제외)
+    @Query("SELECT p.user.id AS writerId, p.commentCnt AS commentCnt, p.imgUrl AS imgUrl " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostOwnerView> findOwnerViewById(@Param("postId") Long postId);
+
+    // 게시글 soft-delete (게시글 행 잠금, 이미 삭제된 게시글이면 0 반환)
+    @Modifying
+    @Query("UPDATE Post p SET p.deleted = true WHERE p.id = :postId AND p.deleted = false")
+    int softDeleteById(@Param("postId") Long postId);
+
+    // 게시글 soft-delete (댓글/좋아요는 PostPurgeJob이 정리)
+    @Modifying
+    @Query("UPDATE Post p SET p.deleted = true WHERE p.id IN :postIds")
+    int softDeleteByIds(@Param("postIds") Collection<Long> postIds);
+
+    // soft-delete된 게시글 ID 목록 (엔티티 조회는 @SQLRestriction으로 제외되므로 네이티브 쿼리 사용)
+    @Query(value = "SELECT id FROM posts WHERE deleted = true LIMIT :limit", nativeQuery = true)
+    List<Long> findSoftDeletedIds(@Param("limit") int limit);
+
+    // 회원의 soft-delete된 게시글 ID 목록
+    @Query(value = "SELECT id FROM posts WHERE user_id = :userId AND deleted = true", nativeQuery = true)
+    List<Long> findSoftDeletedIdsByUserId(@Param("userId") Long userId);
+
+    // soft-delete된 게시글 최종 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM posts WHERE id = :postId AND deleted = true", nativeQuery = true)
+    int deleteSoftDeletedById(@Param("postId") Long postId);
 }
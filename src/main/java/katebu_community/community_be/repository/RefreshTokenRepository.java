@@ -0,0 +1,37 @@
+package katebu_community.community_be.repository;
+
+import katebu_community.community_be.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // 만료되지 않은 토큰 순차 조회 (ID 기준, 메모리 인덱스 생성용)
+    List<RefreshToken> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Long id, LocalDateTime now, Pageable pageable);
+
+    // 사용 처리 (이미 사용된 토큰이면 0 반환)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.used = true WHERE r.id = :id AND r.used = false")
+    int markUsed(@Param("id") Long id);
+
+    // family 전체 삭제 (재사용 감지)
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteByFamilyIdInBulk(@Param("familyId") Long familyId);
+
+    // 회원의 토큰 전체 삭제 (비밀번호 변경, 회원 탈퇴)
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserIdInBulk(@Param("userId") Long userId);
+
+    // 만료된 토큰 삭제
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
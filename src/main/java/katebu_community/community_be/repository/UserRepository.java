@@ -2,6 +2,10 @@ package katebu_community.community_be.repository;
 
 import katebu_community.community_be.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -9,4 +13,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
+
+    // 탈퇴 처리 중이 아닌 회원인지 확인 (엔티티를 읽지 않는 존재 확인 쿼리)
+    boolean existsByIdAndDisabledFalse(Long id);
+
+    // 비밀번호 해시 교체 (그 사이 비밀번호가 바뀌었으면 교체하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
\ No newline at end of file
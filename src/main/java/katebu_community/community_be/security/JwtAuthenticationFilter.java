@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import katebu_community.community_be.security.RouteClassifier.Route;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,26 +22,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getServletPath();
         // 토큰 검증 필터를 건너뛰도록 처리
         // 로그인, 회원가입
-        if (path.startsWith("/auth")) {
-            return true;
-        }
-        // 게시글 목록 조회
-        if ("GET".equalsIgnoreCase(request.getMethod()) && path.matches("/posts")) {
-            return true;
-        }
-        return false;
+        return RouteClassifier.classify(request.getMethod(), request.getServletPath()) == Route.AUTH;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws IOException, ServletException {
 
+        Route route = RouteClassifier.classify(request.getMethod(), request.getServletPath());
+
         // 이미지 요청
-        String uri = request.getRequestURI();
-        if (uri.startsWith("/uploads/")) {
+        if (route == Route.UPLOADS) {
             chain.doFilter(request, response);
             return;
         }
@@ -52,31 +46,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 토큰 값
             String token = authorizationHeader.substring(7);
 
-            // 토큰에서 사용자 ID 추출
-            if (jwtTokenProvider.validateToken(token)) {
-                String userIdStr = jwtTokenProvider.getUserIdFromToken(token);
-                try {
-                    Long userId = Long.parseLong(userIdStr);
-                    // 인증 객체 생성
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
-                    // SecurityContext에 저장
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                } catch (NumberFormatException e) {
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.");
+            // 토큰 검증 및 사용자 ID 추출 (서명 검증은 한 번만, 검증된 토큰은 캐시 사용)
+            Long userId = jwtTokenProvider.verify(token);
+            if (userId == null) {
+                SecurityContextHolder.clearContext();
+                // 공개 조회 요청은 만료되었거나 잘못된 토큰이면 비회원으로 처리
+                if (route == Route.PUBLIC_READ) {
+                    chain.doFilter(request, response);
                     return;
                 }
-            } else {
-                System.out.println("여기 실행됨");
-                SecurityContextHolder.clearContext();
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.");
                 return;
             }
+
+            // 인증 객체 생성
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+            // SecurityContext에 저장
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         } else {
-            // 게시글 상세 조회 요청 & 댓글 목록 조회 요청은 토큰이 없어도 접근 가능하도록 통과 (토큰이 있다면 if문 안에서 ID 추출)
-            String path = request.getServletPath();
-            if ("GET".equalsIgnoreCase(request.getMethod()) &&
-                    (path.matches("^/posts/\\d+$") || path.matches("^/posts/\\d+/comments$"))) {
+            // 게시글 목록/상세 조회, 검색, 인기 게시글 요청 & 댓글 목록, 회원별 게시글 목록 조회 요청은 토큰이 없어도 접근 가능하도록 통과 (토큰이 있다면 if문 안에서 ID 추출)
+            if (route == Route.PUBLIC_READ) {
                 chain.doFilter(request, response);
                 return;
             }
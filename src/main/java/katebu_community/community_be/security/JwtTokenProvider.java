@@ -1,16 +1,23 @@
 package katebu_community.community_be.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import katebu_community.community_be.util.TokenDigest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
@@ -19,15 +26,43 @@ public class JwtTokenProvider {
     @Value("${jwt.secret}")
     private String secret;
 
+    // 검증된 토큰 캐시 최대 개수 (0이면 캐시 사용 안 함)
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
     private SecretKey key;
 
+    // 서명 검증용 파서 (불변 객체라 여러 스레드에서 공유 가능)
+    private JwtParser parser;
+
     private final long tokenValidTime = 1000L * 60 * 60 * 2; // 2시간 유효
 
+    // 이미 검증한 토큰의 SHA-256 다이제스트 -> 사용자 ID, 만료 시각
+    // 토큰 원문 대신 다이제스트를 키로 사용해서 메모리에 토큰을 남기지 않음
+    // 조회는 락 없이 처리하고, 최대 개수를 넘으면 한 스레드만 CLOCK(second chance) 방식으로 정리
+    private final Map<TokenDigest, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private static final class VerifiedToken {
+        private final Long userId;
+        private final long expiresAtMillis;
+        // 마지막 정리 이후 사용되었는지 (정리할 때 한 번 봐주고 false로 되돌림)
+        private volatile boolean referenced;
+
+        private VerifiedToken(Long userId, long expiresAtMillis) {
+            this.userId = userId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
     @PostConstruct // 의존성 주입이 이루어진 후 초기화를 수행하는 메서드에 사용
     protected void init() {
         // 주입받은 secret을 Base64로 디코딩하여 SecretKey 생성
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     // 토큰 생성
@@ -43,32 +78,79 @@ public class JwtTokenProvider {
                 .compact();                     // JWS(최종 서명된 JWT) 문자열 생성
     }
 
-    // 토큰에서 사용자 정보(id) 추출
-    public String getUserIdFromToken(String token) {
+    // 토큰 검증 후 사용자 ID 반환 (유효하지 않으면 null)
+    // 한 번 검증한 토큰은 만료 시각까지 캐시해서 서명 검증을 다시 하지 않음
+    public Long verify(String token) {
+        TokenDigest digest = verifiedCacheMaxSize > 0 ? TokenDigest.of(token) : null;
+        if (digest != null) {
+            VerifiedToken cached = verifiedTokens.get(digest);
+            if (cached != null) {
+                if (System.currentTimeMillis() < cached.expiresAtMillis) {
+                    if (!cached.referenced) {
+                        cached.referenced = true;
+                    }
+                    return cached.userId;
+                }
+                verifiedTokens.remove(digest, cached);
+            }
+        }
+
+        Claims claims;
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-        } catch (JwtException e) {
-            log.error("JWT Token 사용자 정보 추출 실패: {}", e.getMessage());
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("JWT Token 검증 실패: {}", e.getMessage());
             return null;
         }
+
+        Long userId;
+        try {
+            userId = Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            log.error("JWT Token 사용자 정보 추출 실패: {}", claims.getSubject());
+            return null;
+        }
+
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (digest != null && claims.getExpiration() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(userId, claims.getExpiration().getTime()));
+            if (verifiedTokens.size() > verifiedCacheMaxSize) {
+                evictVerifiedTokens();
+            }
+        }
+        return userId;
     }
 
-    // 토큰 유효성 검사
-    public boolean validateToken(String token) {
+    // 검증된 토큰 캐시 크기 (테스트용)
+    int verifiedCacheSize() {
+        return verifiedTokens.size();
+    }
+
+    // 만료된 토큰을 먼저 지우고, 그래도 많으면 최근에 사용되지 않은 토큰부터 최대 개수의 90%까지 정리
+    // 다른 스레드가 정리 중이면 기다리지 않고 넘어감
+    private void evictVerifiedTokens() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (JwtException e) {
-            log.error("JWT Token 검증 실패: {}", e.getMessage());
-            return false;
+            long now = System.currentTimeMillis();
+            verifiedTokens.values().removeIf(token -> token.expiresAtMillis <= now);
+
+            int target = verifiedCacheMaxSize - verifiedCacheMaxSize / 10;
+            // 첫 바퀴에서 사용 표시를 지우므로 두 바퀴 안에 target 이하가 됨
+            for (int pass = 0; pass < 2 && verifiedTokens.size() > target; pass++) {
+                Iterator<VerifiedToken> it = verifiedTokens.values().iterator();
+                while (it.hasNext() && verifiedTokens.size() > target) {
+                    VerifiedToken token = it.next();
+                    if (token.referenced) {
+                        token.referenced = false;
+                    } else {
+                        it.remove();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
         }
     }
 }
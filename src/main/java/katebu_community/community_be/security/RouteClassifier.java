@@ -0,0 +1,71 @@
+package katebu_community.community_be.security;
+
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+// 요청 경로 분류 (JwtAuthenticationFilter와 SecurityConfig가 같은 규칙을 사용)
+// 정규식 대신 문자 단위로 비교해서 요청마다 Pattern 컴파일이나 객체 생성이 없음
+public final class RouteClassifier {
+
+    public enum Route {
+        UPLOADS,      // 업로드 이미지 (/uploads/...)
+        AUTH,         // 로그인, 회원가입 등 (/auth...), 토큰 검증 필터 건너뜀
+        PUBLIC_READ,  // 토큰 없이도 조회 가능한 GET 요청 (토큰이 있으면 사용자 ID 추출)
+        PROTECTED     // 인증 필요
+    }
+
+    private RouteClassifier() {
+    }
+
+    // HTTP 메서드와 서블릿 경로로 분류
+    public static Route classify(String method, String path) {
+        if (path.startsWith("/uploads/")) {
+            return Route.UPLOADS;
+        }
+        if (path.startsWith("/auth")) {
+            return Route.AUTH;
+        }
+        if ("GET".equalsIgnoreCase(method) && isPublicReadPath(path)) {
+            return Route.PUBLIC_READ;
+        }
+        return Route.PROTECTED;
+    }
+
+    // SecurityConfig에서 사용할 RequestMatcher
+    public static RequestMatcher matcher(Route route) {
+        return request -> classify(request.getMethod(), request.getServletPath()) == route;
+    }
+
+    // 게시글 목록/상세 조회, 검색, 인기 게시글, 댓글 목록, 회원별 게시글 목록
+    // /posts, /posts/search, /posts/trending, /posts/{id}, /posts/{id}/comments, /user/{id}/posts
+    private static boolean isPublicReadPath(String path) {
+        if (path.equals("/posts") || path.equals("/posts/search") || path.equals("/posts/trending")) {
+            return true;
+        }
+        int length = path.length();
+        if (path.startsWith("/posts/")) {
+            int idEnd = digitsEnd(path, 7);
+            if (idEnd == 7) {
+                return false;
+            }
+            return idEnd == length || (length - idEnd == 9 && path.startsWith("/comments", idEnd));
+        }
+        if (path.startsWith("/user/")) {
+            int idEnd = digitsEnd(path, 6);
+            return idEnd > 6 && length - idEnd == 6 && path.startsWith("/posts", idEnd);
+        }
+        return false;
+    }
+
+    // from부터 연속된 숫자(0-9)가 끝나는 위치
+    private static int digitsEnd(String path, int from) {
+        int i = from;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,168 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.domain.AccountDeletionJob;
+import katebu_community.community_be.domain.AccountDeletionJob.Phase;
+import katebu_community.community_be.domain.Likes;
+import katebu_community.community_be.dto.CommentPostRefView;
+import katebu_community.community_be.event.ImageDiscardedEvent;
+import katebu_community.community_be.event.PostChangedEvent;
+import katebu_community.community_be.event.PostCountersChangedEvent;
+import katebu_community.community_be.repository.AccountDeletionJobRepository;
+import katebu_community.community_be.repository.CommentRepository;
+import katebu_community.community_be.repository.LikesRepository;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.RefreshTokenRepository;
+import katebu_community.community_be.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 회원 탈퇴 작업 실행기
+// 단계마다 chunk-size개씩 set-based 쿼리로 삭제하고, 청크마다 별도 트랜잭션에서 진행 상황을 함께 저장
+// 실패하면 현재 단계에 멈춰 있다가 다음 주기에 이어서 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountDeletionJobRunner {
+
+    private final AccountDeletionJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikesRepository likesRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final PostPurgeJob postPurgeJob;
+    private final PostCountCache postCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${account-deletion.chunk-size:500}")
+    private int chunkSize;
+
+    // 진행 중인 탈퇴 작업 실행
+    @Scheduled(fixedDelayString = "${account-deletion.interval-ms:5000}")
+    public void runPending() {
+        for (AccountDeletionJob job : jobRepository.findByPhaseNotOrderByCreatedAtAsc(Phase.DONE)) {
+            run(job.getUserId());
+        }
+    }
+
+    // 탈퇴 작업 하나를 끝날 때까지 실행
+    public synchronized void run(Long userId) {
+        try {
+            Phase phase;
+            while ((phase = currentPhase(userId)) != null && phase != Phase.DONE) {
+                if (phase == Phase.PURGE) {
+                    // soft-delete된 게시글 정리 (PostPurgeJob이 청크마다 별도 트랜잭션으로 삭제)
+                    postPurgeJob.purgeByUser(userId);
+                    transactionTemplate.executeWithoutResult(status -> moveTo(userId, Phase.USER));
+                } else {
+                    transactionTemplate.executeWithoutResult(status -> runChunk(userId));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("회원 탈퇴 작업 실패 userId={}", userId, e);
+            transactionTemplate.executeWithoutResult(status -> recordFailure(userId, e));
+        }
+    }
+
+    private Phase currentPhase(Long userId) {
+        return jobRepository.findById(userId)
+                .map(AccountDeletionJob::getPhase)
+                .orElse(null);
+    }
+
+    // 현재 단계의 청크 하나 처리 (남은 행이 없으면 다음 단계로)
+    private void runChunk(Long userId) {
+        AccountDeletionJob job = jobRepository.findById(userId).orElseThrow();
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+
+        switch (job.getPhase()) {
+            case LIKES -> {
+                // 회원이 누른 좋아요 삭제 및 게시글 좋아요 수 감소
+                List<Likes> likes = likesRepository.findByUserIdOrderByIdAsc(userId, chunk);
+                if (likes.isEmpty()) {
+                    job.setPhase(Phase.COMMENTS);
+                    return;
+                }
+                List<Long> postIds = likes.stream().map(Likes::getPostId).toList();
+                postRepository.decrementLikeCntIn(postIds);
+                likesRepository.deleteAllByIdInBatch(likes.stream().map(Likes::getId).toList());
+                postIds.forEach(postId -> eventPublisher.publishEvent(PostCountersChangedEvent.liked(postId, -1)));
+                job.setProcessedRows(job.getProcessedRows() + likes.size());
+            }
+            case COMMENTS -> {
+                // 회원이 작성한 댓글 삭제 및 게시글별 댓글 수 감소
+                List<CommentPostRefView> comments = commentRepository.findPostRefsByUserId(userId, chunk);
+                if (comments.isEmpty()) {
+                    job.setPhase(Phase.POSTS);
+                    return;
+                }
+                Map<Long, Long> countByPost = comments.stream()
+                        .collect(Collectors.groupingBy(CommentPostRefView::getPostId, Collectors.counting()));
+                countByPost.forEach((postId, count) -> {
+                    postRepository.decrementCommentCntBy(postId, count.intValue());
+                    eventPublisher.publishEvent(PostCountersChangedEvent.commented(postId, -count.intValue()));
+                });
+                commentRepository.deleteAllByIdInBatch(
+                        comments.stream().map(CommentPostRefView::getCommentId).toList());
+                job.setProcessedRows(job.getProcessedRows() + comments.size());
+            }
+            case POSTS -> {
+                // 회원의 게시글 soft-delete (다른 회원의 댓글/좋아요는 PURGE 단계에서 정리)
+                List<Long> postIds = postRepository.findIdsByUserId(userId, chunk);
+                if (postIds.isEmpty()) {
+                    job.setPhase(Phase.PURGE);
+                    return;
+                }
+                List<String> imgUrls = postRepository.findImgUrlsByIds(postIds);
+                postRepository.softDeleteByIds(postIds);
+                for (Long postId : postIds) {
+                    postCountCache.decrement();
+                    eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.DELETED));
+                }
+                imgUrls.forEach(imgUrl -> eventPublisher.publishEvent(new ImageDiscardedEvent(imgUrl)));
+                job.setProcessedRows(job.getProcessedRows() + postIds.size());
+            }
+            case USER -> {
+                // 탈퇴 처리 중에 새로 생긴 데이터가 있으면 처음 단계부터 다시 진행
+                if (likesRepository.existsByUserId(userId)
+                        || commentRepository.existsByUserId(userId)
+                        || postRepository.existsByUserId(userId)
+                        || !postRepository.findSoftDeletedIdsByUserId(userId).isEmpty()) {
+                    job.setPhase(Phase.LIKES);
+                    return;
+                }
+                // 남은 리프레시 토큰, 회원 및 프로필 이미지 삭제
+                refreshTokenRepository.deleteByUserIdInBulk(userId);
+                userRepository.findById(userId).ifPresent(user -> {
+                    eventPublisher.publishEvent(new ImageDiscardedEvent(user.getProfileUrl()));
+                    userRepository.delete(user);
+                });
+                job.setPhase(Phase.DONE);
+            }
+            default -> throw new IllegalStateException("처리할 수 없는 단계: " + job.getPhase());
+        }
+    }
+
+    private void moveTo(Long userId, Phase phase) {
+        jobRepository.findById(userId).ifPresent(job -> job.setPhase(phase));
+    }
+
+    private void recordFailure(Long userId, RuntimeException e) {
+        jobRepository.findById(userId).ifPresent(job -> {
+            job.setAttempts(job.getAttempts() + 1);
+            String message = String.valueOf(e.getMessage());
+            job.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        });
+    }
+}
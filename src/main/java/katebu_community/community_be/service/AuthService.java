@@ -3,6 +3,7 @@ package katebu_community.community_be.service;
 import katebu_community.community_be.domain.User;
 import katebu_community.community_be.dto.LoginRequestDto;
 import katebu_community.community_be.dto.LoginResponseDto;
+import katebu_community.community_be.dto.TokenResponseDto;
 import katebu_community.community_be.dto.UserDto;
 import katebu_community.community_be.exception.DuplicateException;
 import katebu_community.community_be.exception.EmailNotFoundException;
@@ -11,9 +12,7 @@ import katebu_community.community_be.exception.InvalidPasswordException;
 import katebu_community.community_be.repository.UserRepository;
 import katebu_community.community_be.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -21,12 +20,13 @@ import org.springframework.web.multipart.MultipartFile;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final FileUploadService fileUploadService;
 
     // 회원가입
-    @Transactional
+    // 트랜잭션 없이 실행 (BCrypt 풀과 이미지 업로드를 기다리는 동안 DB 커넥션을 잡지 않음, 저장은 save 한 번)
     public void register(MultipartFile profileImg,
                          String email,
                          String password,
@@ -45,13 +45,16 @@ public class AuthService {
             throw new DuplicateException("중복된 닉네임입니다.");
         }
 
+        // 비밀번호 암호화 (풀이 가득 차서 실패하면 이미지를 올리기 전에 중단)
+        String encodedPassword = passwordHasher.encode(password);
+
         // 이미지 업로드 및 URL 반환
         String profileImgUrl = fileUploadService.uploadImage(profileImg);
 
-        // 비밀번호 암호화 후 저장
+        // 회원 저장
         User user = User.builder()
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(encodedPassword)
                 .nickname(nickname)
                 .profileUrl(profileImgUrl)
                 .build();
@@ -63,15 +66,25 @@ public class AuthService {
     public LoginResponseDto login(LoginRequestDto loginRequestDto) {
         // 이메일 확인
         User user = userRepository.findByEmail(loginRequestDto.getEmail())
+                .filter(found -> !found.isDisabled()) // 탈퇴 처리 중인 계정은 로그인 불가
                 .orElseThrow(() -> new EmailNotFoundException("등록되지 않은 이메일입니다."));
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(loginRequestDto.getPassword(), user.getPassword())) {
+        // 비밀번호 확인 (BCrypt 전용 풀에서 실행, 가득 차 있으면 ServiceBusyException)
+        if (!passwordHasher.matches(loginRequestDto.getPassword(), user.getPassword())) {
             throw new InvalidPasswordException("비밀번호가 올바르지 않습니다.");
         }
 
-        // 토큰 생성
+        // BCrypt cost 설정이 바뀌었으면 응답은 바로 하고 백그라운드에서 다시 해시
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            Long userId = user.getId();
+            String oldPassword = user.getPassword();
+            passwordHasher.encodeInBackground(loginRequestDto.getPassword(),
+                    newPassword -> userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword));
+        }
+
+        // 액세스 토큰, 리프레시 토큰 생성
         String token = jwtTokenProvider.createToken(user.getId());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         // 유저 객체 생성
         UserDto userDto = UserDto.builder()
@@ -85,6 +98,16 @@ public class AuthService {
         return LoginResponseDto.builder()
                 .user(userDto)
                 .token(token)
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    // 액세스 토큰 재발급 (비밀번호 검증 없이 리프레시 토큰 교체)
+    public TokenResponseDto refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        return TokenResponseDto.builder()
+                .token(jwtTokenProvider.createToken(rotation.userId()))
+                .refreshToken(rotation.refreshToken())
                 .build();
     }
 }
@@ -1,17 +1,21 @@
 package katebu_community.community_be.service;
 
 import katebu_community.community_be.domain.Comment;
-import katebu_community.community_be.domain.Post;
-import katebu_community.community_be.domain.User;
 import katebu_community.community_be.dto.CommentListResponseDto;
 import katebu_community.community_be.dto.CommentSummaryDto;
+import katebu_community.community_be.dto.CommentSummaryView;
+import katebu_community.community_be.event.PostCountersChangedEvent;
 import katebu_community.community_be.exception.CommentNotFoundException;
 import katebu_community.community_be.exception.PostNotFoundException;
 import katebu_community.community_be.exception.UnauthorizedException;
 import katebu_community.community_be.repository.CommentRepository;
 import katebu_community.community_be.repository.PostRepository;
 import katebu_community.community_be.repository.UserRepository;
+import katebu_community.community_be.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,32 +26,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final UserCommonService userCommonService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 작성
     @Transactional
     public Long createComment(Long userId, Long postId, String content) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글 없음"));
+        // 작성자 확인 (없는 회원이나 탈퇴 처리 중인 회원이면 FK 오류 전에 거절)
+        userCommonService.checkActiveUser(userId);
 
-        // 회원 조회
-        User writer = userCommonService.getUserOrThrow(userId);
+        // 게시글 댓글 수 증가 (영향받은 행이 없으면 게시글 없음)
+        if (postRepository.incrementCommentCnt(postId) == 0) {
+            throw new PostNotFoundException("게시글 없음");
+        }
 
-        // 댓글 엔티티 생성 및 저장
+        // 댓글 엔티티 생성 및 저장 (게시글, 작성자는 FK 참조만 사용)
         Comment comment = Comment.builder()
                 .content(content)
-                .post(post)
-                .user(writer)
+                .post(postRepository.getReferenceById(postId))
+                .user(userRepository.getReferenceById(userId))
                 .build();
         Comment savedComment = commentRepository.save(comment);
-
-        // 게시글 댓글 수 증가
-        post.setCommentCnt(post.getCommentCnt() + 1);
-        postRepository.save(post);
+        eventPublisher.publishEvent(PostCountersChangedEvent.commented(postId, 1));
 
         return savedComment.getId();
     }
@@ -78,56 +84,77 @@ public class CommentService {
     // 댓글 삭제
     @Transactional
     public void deleteComment(Long userId, Long postId, Long commentId) {
-        // 댓글 조회
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException("댓글 없음"));
-
-        // 게시글 ID 일치 확인
-        if (!comment.getPost().getId().equals(postId)) {
-            throw new IllegalArgumentException("잘못된 요청: 게시글 ID 불일치");
-        }
-
-        // 권한 확인
-        if (!comment.getUser().getId().equals(userId)) {
+        // 게시글 ID, 작성자가 일치할 때만 삭제 (엔티티를 로드하지 않고 DELETE 한 번)
+        if (commentRepository.deleteByIdAndPostIdAndUserId(commentId, postId, userId) == 0) {
+            // 삭제된 행이 없을 때만 원인 확인
+            if (!commentRepository.existsById(commentId)) {
+                throw new CommentNotFoundException("댓글 없음");
+            }
+            if (!commentRepository.existsByIdAndPostId(commentId, postId)) {
+                throw new IllegalArgumentException("잘못된 요청: 게시글 ID 불일치");
+            }
             throw new UnauthorizedException("권한 없음");
         }
 
-        // 댓글 삭제
-        commentRepository.delete(comment);
-
         // 게시글의 댓글 수 감소
-        Post post = comment.getPost();
-        post.setCommentCnt(post.getCommentCnt() - 1);
-        postRepository.save(post);
+        postRepository.decrementCommentCnt(postId);
+        eventPublisher.publishEvent(PostCountersChangedEvent.commented(postId, -1));
     }
 
     // 댓글 목록 조회
+    // 커서 방식으로 size개씩 조회 (cursor가 없으면 첫 페이지, size가 없으면 DEFAULT_PAGE_SIZE)
     @Transactional(readOnly = true)
-    public CommentListResponseDto getComments(Long userId, Long postId) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
+    public CommentListResponseDto getComments(Long userId, Long postId, String cursor, Integer size) {
+        // 게시글 존재 확인 및 전체 댓글 수 조회
+        int commentCnt = postRepository.findCommentCntById(postId)
                 .orElseThrow(() -> new PostNotFoundException("게시글 없음"));
 
-        // 댓글 목록 조회
-        List<Comment> comments = commentRepository.findByPostOrderByCreatedAtAsc(post);
+        int pageSize = (size != null) ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("유효하지 않은 페이지 크기");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<CommentSummaryView> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findSummariesByPostId(postId, limit);
+        } else {
+            CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+            comments = commentRepository.findSummariesByPostIdAfter(
+                    postId, decoded.createdAt(), decoded.id(), limit);
+        }
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
 
         // 댓글 목록을 CommentSummaryDto 리스트로 생성
         List<CommentSummaryDto> commentList = comments.stream().map(comment ->
                 CommentSummaryDto.builder()
-                        .commentId(comment.getId())
+                        .commentId(comment.getCommentId())
                         .content(comment.getContent())
                         .createdAt(comment.getCreatedAt())
-                        .writerId(comment.getUser().getId())
-                        .writerName(comment.getUser().getNickname())
-                        .writerImg(comment.getUser().getProfileUrl())
-                        .author(userId != null && comment.getUser().getId().equals(userId))
+                        .writerId(comment.getWriterId())
+                        .writerName(comment.getWriterName())
+                        .writerImg(comment.getWriterImg())
+                        .author(userId != null && comment.getWriterId().equals(userId))
                         .build()
         ).collect(Collectors.toList());
 
+        // 마지막 댓글 기준으로 다음 커서 생성
+        String nextCursor = null;
+        if (hasNext) {
+            CommentSummaryView lastComment = comments.get(comments.size() - 1);
+            nextCursor = CursorCodec.encode(lastComment.getCreatedAt(), lastComment.getCommentId());
+        }
+
         return CommentListResponseDto.builder()
-                .postId(post.getId())
-                .commentCnt(commentList.size())
+                .postId(postId)
+                .commentCnt(commentCnt)
                 .commentList(commentList)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
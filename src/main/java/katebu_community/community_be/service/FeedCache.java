@@ -0,0 +1,135 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.dto.PostSummaryDto;
+import katebu_community.community_be.event.PostChangedEvent;
+import katebu_community.community_be.event.PostCountersChangedEvent;
+import katebu_community.community_be.event.UserProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시글 목록 앞쪽 N 페이지 캐시
+// - 게시글 작성/수정/삭제, 작성자 정보 변경이 커밋되면 전체 무효화
+// - 좋아요/댓글/조회수는 캐시 이후의 증감량을 덧씌워서 응답 (증감량은 페이지 항목과 함께 만료)
+@Component
+public class FeedCache {
+
+    @Value("${feed.cache.pages:3}")
+    private int cachedPages;
+
+    @Value("${feed.cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    // 캐시된 페이지 (최대 cachedPages개)
+    private final Map<Integer, Entry> pages = new ConcurrentHashMap<>();
+    // 무효화될 때마다 증가 (무효화 이전에 조회한 결과가 캐시에 들어가는 것을 방지)
+    private final AtomicLong generation = new AtomicLong();
+
+    public record FeedPage(List<PostSummaryDto> posts, boolean hasNext) {
+    }
+
+    // counters: 이 스냅샷 이후의 게시글별 증감량 (새 스냅샷을 저장하면 함께 교체되어 0부터 다시 시작)
+    private record Entry(List<PostSummaryDto> posts, boolean hasNext, long generation, long cachedAt,
+                         Map<Long, Counters> counters) {
+    }
+
+    private static class Counters {
+        private final AtomicInteger views = new AtomicInteger();
+        private final AtomicInteger likes = new AtomicInteger();
+        private final AtomicInteger comments = new AtomicInteger();
+    }
+
+    public boolean isCacheable(int page) {
+        return page >= 0 && page < cachedPages;
+    }
+
+    // DB 조회 전에 현재 세대 값을 받아두고 put 할 때 전달
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    // 캐시 조회 (없거나 만료되었으면 null)
+    public FeedPage get(int page) {
+        Entry entry = pages.get(page);
+        if (entry == null
+                || entry.generation() != generation.get()
+                || System.currentTimeMillis() - entry.cachedAt() > ttlMillis) {
+            return null;
+        }
+        // 응답마다 새 DTO를 만들어 카운터 증감량 반영
+        List<PostSummaryDto> posts = entry.posts().stream()
+                .map(post -> copyWithCounters(post, entry.counters()))
+                .toList();
+        return new FeedPage(posts, entry.hasNext());
+    }
+
+    // 캐시 저장 (조회 도중 무효화되었으면 저장하지 않음)
+    public void put(int page, long generationAtLoad, List<PostSummaryDto> posts, boolean hasNext) {
+        if (!isCacheable(page) || generationAtLoad != generation.get()) {
+            return;
+        }
+        List<PostSummaryDto> snapshot = posts.stream()
+                .map(post -> copy(post, 0, 0, 0))
+                .toList();
+        Map<Long, Counters> counters = new ConcurrentHashMap<>();
+        snapshot.forEach(post -> counters.put(post.getPostId(), new Counters()));
+        pages.put(page, new Entry(snapshot, hasNext, generationAtLoad, System.currentTimeMillis(), counters));
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        pages.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evictAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        evictAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersChanged(PostCountersChangedEvent event) {
+        // 캐시된 페이지에 있는 게시글만 반영
+        for (Entry entry : pages.values()) {
+            Counters c = entry.counters().get(event.postId());
+            if (c == null) {
+                continue;
+            }
+            c.views.addAndGet(event.viewDelta());
+            c.likes.addAndGet(event.likeDelta());
+            c.comments.addAndGet(event.commentDelta());
+        }
+    }
+
+    private static PostSummaryDto copyWithCounters(PostSummaryDto post, Map<Long, Counters> counters) {
+        Counters c = counters.get(post.getPostId());
+        if (c == null) {
+            return copy(post, 0, 0, 0);
+        }
+        return copy(post, c.views.get(), c.likes.get(), c.comments.get());
+    }
+
+    private static PostSummaryDto copy(PostSummaryDto post, int viewDelta, int likeDelta, int commentDelta) {
+        return PostSummaryDto.builder()
+                .postId(post.getPostId())
+                .title(post.getTitle())
+                .createdAt(post.getCreatedAt())
+                .likeCnt(Math.max(post.getLikeCnt() + likeDelta, 0))
+                .commentCnt(Math.max(post.getCommentCnt() + commentDelta, 0))
+                .viewCnt(post.getViewCnt() + viewDelta)
+                .writerId(post.getWriterId())
+                .writerName(post.getWriterName())
+                .writerImg(post.getWriterImg())
+                .build();
+    }
+}
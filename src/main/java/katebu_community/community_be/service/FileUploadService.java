@@ -1,7 +1,9 @@
 package katebu_community.community_be.service;
 
+import katebu_community.community_be.event.ImageDiscardedEvent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
@@ -66,6 +68,12 @@ public class FileUploadService {
         }
     }
 
+    // 트랜잭션 커밋 후 이미지 파일 삭제 (롤백되면 파일 유지)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageDiscarded(ImageDiscardedEvent event) {
+        deleteImage(event.imageUrl());
+    }
+
     // 이미지 확장자 체크
     private boolean isImageExtension(String extension) {
         return extension.matches("jpg|jpeg|png|gif|webp");
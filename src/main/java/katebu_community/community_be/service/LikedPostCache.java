@@ -0,0 +1,161 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.domain.Likes;
+import katebu_community.community_be.event.LikeChangedEvent;
+import katebu_community.community_be.repository.LikesRepository;
+import katebu_community.community_be.util.BloomFilter;
+import katebu_community.community_be.util.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 사용자별 좋아요한 게시글 ID 캐시
+// - 블룸 필터에 없는 (userId, postId)는 DB 조회 없이 "좋아요 안 함"으로 판단
+// - 블룸 필터를 통과하면 최근 사용자별 게시글 ID 셋(LRU)에서 확인, 없으면 한 번에 로드
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikedPostCache {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final LikesRepository likesRepository;
+
+    @Value("${likes.cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${likes.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${likes.bloom.fpp:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean bloomReady;
+
+    // 사용자 ID -> 좋아요한 게시글 ID 셋 (접근 순서 기준 LRU)
+    private final Map<Long, LongHashSet> likedSets = Collections.synchronizedMap(
+            new LinkedHashMap<Long, LongHashSet>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, LongHashSet> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+
+    // 좋아요 변경 이벤트 수 (셋 로드 도중 변경이 있었으면 캐시하지 않기 위해 사용)
+    private final AtomicLong changeCount = new AtomicLong();
+
+    // 애플리케이션 시작 시 전체 좋아요로 블룸 필터 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        // 생성 중에 들어온 좋아요도 반영되도록 먼저 등록
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        bloomFilter = filter;
+
+        long loaded = 0;
+        long lastId = 0;
+        List<Likes> chunk;
+        do {
+            chunk = likesRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Likes like : chunk) {
+                filter.put(like.getUserId(), like.getPostId());
+                lastId = like.getId();
+            }
+            loaded += chunk.size();
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        bloomReady = true;
+        log.info("좋아요 블룸 필터 생성 완료: {}건", loaded);
+    }
+
+    // 사용자가 게시글에 좋아요를 눌렀는지 확인
+    public boolean isLiked(Long userId, Long postId) {
+        if (userId == null) {
+            return false;
+        }
+        // 블룸 필터에 없으면 확실히 좋아요 안 함
+        if (bloomReady && !bloomFilter.mightContain(userId, postId)) {
+            return false;
+        }
+        LongHashSet set = getOrLoad(userId);
+        synchronized (set) {
+            return set.contains(postId);
+        }
+    }
+
+    // 여러 게시글 중 사용자가 좋아요한 게시글 ID 조회
+    // 블룸 필터로 후보를 줄이고, 캐시된 셋이 없으면 IN 조건으로 한 번만 조회
+    public Set<Long> findLiked(Long userId, List<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> candidates = bloomReady
+                ? postIds.stream().filter(postId -> bloomFilter.mightContain(userId, postId)).toList()
+                : postIds;
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        LongHashSet set = likedSets.get(userId);
+        if (set != null) {
+            synchronized (set) {
+                return candidates.stream().filter(set::contains).collect(Collectors.toSet());
+            }
+        }
+        return new HashSet<>(likesRepository.findLikedPostIds(userId, candidates));
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(LikeChangedEvent event) {
+        changeCount.incrementAndGet();
+        if (event.liked() && bloomFilter != null) {
+            bloomFilter.put(event.userId(), event.postId());
+        }
+        LongHashSet set = likedSets.get(event.userId());
+        if (set == null) {
+            return;
+        }
+        synchronized (set) {
+            if (event.liked()) {
+                set.add(event.postId());
+            } else {
+                set.remove(event.postId());
+            }
+        }
+    }
+
+    private LongHashSet getOrLoad(Long userId) {
+        LongHashSet set = likedSets.get(userId);
+        if (set != null) {
+            return set;
+        }
+
+        long changeCountAtLoad = changeCount.get();
+        List<Long> postIds = likesRepository.findPostIdsByUserId(userId);
+        LongHashSet loaded = new LongHashSet(postIds.size());
+        for (Long postId : postIds) {
+            loaded.add(postId);
+        }
+
+        // 로드하는 동안 좋아요 변경이 있었으면 이번 응답에만 사용
+        if (changeCountAtLoad == changeCount.get()) {
+            LongHashSet existing = likedSets.putIfAbsent(userId, loaded);
+            return existing != null ? existing : loaded;
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,65 @@
+package katebu_community.community_be.service;
+
+import jakarta.annotation.PostConstruct;
+import katebu_community.community_be.exception.TooManyRequestsException;
+import katebu_community.community_be.util.StripedTokenBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 시도 제한 (이메일별, 클라이언트 IP별 토큰 버킷)
+// DB 조회, BCrypt 검증 전에 확인해서 반복 시도가 CPU를 쓰지 못하게 함
+@Component
+public class LoginRateLimiter {
+
+    private static final String MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+    private static final int STRIPES = 64;
+
+    @Value("${login.rate-limit.email.capacity:5}")
+    private int emailCapacity;
+
+    @Value("${login.rate-limit.email.refill-per-minute:5}")
+    private double emailRefillPerMinute;
+
+    @Value("${login.rate-limit.ip.capacity:30}")
+    private int ipCapacity;
+
+    @Value("${login.rate-limit.ip.refill-per-minute:30}")
+    private double ipRefillPerMinute;
+
+    @Value("${login.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${login.rate-limit.idle-ttl-ms:600000}")
+    private long idleTtlMillis;
+
+    private StripedTokenBuckets emailBuckets;
+    private StripedTokenBuckets ipBuckets;
+
+    @PostConstruct
+    void init() {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTtlMillis);
+        emailBuckets = new StripedTokenBuckets(STRIPES, maxKeys, emailCapacity, emailRefillPerMinute / 60, idleNanos);
+        ipBuckets = new StripedTokenBuckets(STRIPES, maxKeys, ipCapacity, ipRefillPerMinute / 60, idleNanos);
+    }
+
+    // 로그인 시도 1회 기록 (IP 또는 이메일 한도를 넘으면 TooManyRequestsException)
+    // 이메일 한도로 거절된 시도는 IP 토큰을 되돌려서, 같은 IP(NAT 등)의 다른 사용자가 함께 막히지 않게 함
+    public void acquire(String email, String clientIp) {
+        long now = System.nanoTime();
+
+        long waitNanos = ipBuckets.tryAcquire(clientIp, now);
+        if (waitNanos == 0 && email != null) {
+            waitNanos = emailBuckets.tryAcquire(email.trim().toLowerCase(Locale.ROOT), now);
+            if (waitNanos > 0) {
+                ipBuckets.refund(clientIp);
+            }
+        }
+        if (waitNanos > 0) {
+            long retryAfterSeconds = (waitNanos + 999_999_999L) / 1_000_000_000L; // 초 단위 올림
+            throw new TooManyRequestsException(MESSAGE, retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package katebu_community.community_be.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import katebu_community.community_be.exception.ServiceBusyException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 비밀번호 해시 생성/검증 전용 스레드 풀
+// - BCrypt는 CPU를 많이 쓰므로 요청 스레드 대신 크기가 정해진 풀에서 실행
+// - 풀과 대기열이 가득 차면 기다리지 않고 ServiceBusyException (503)
+// - 저장된 해시의 cost가 설정값(security.bcrypt.strength)과 다르면 로그인 성공 시 다시 해시
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHasher {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${security.bcrypt.strength:10}")
+    private int strength;
+
+    // 0이면 CPU 코어 수의 절반 (나머지는 일반 요청 처리용)
+    @Value("${security.bcrypt.threads:0}")
+    private int threads;
+
+    @Value("${security.bcrypt.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${security.bcrypt.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // 비밀번호 해시 생성
+    public String encode(String rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 검증
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost가 설정값과 다른지 확인 ("$2a$10$..." 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // 백그라운드에서 해시 생성 후 callback 호출 (풀이 가득 차 있으면 실행하지 않고 false)
+    public boolean encodeInBackground(String rawPassword, Consumer<String> callback) {
+        try {
+            executor.execute(() -> {
+                try {
+                    callback.accept(passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.error("비밀번호 재해시 실패: {}", e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
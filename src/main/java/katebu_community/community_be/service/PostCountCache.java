@@ -0,0 +1,48 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 전체 게시글 수 캐시 (근사값)
+// 일정 시간마다 count 쿼리로 보정하고, 그 사이에는 작성/삭제 시 값을 직접 증감
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    private final PostRepository postRepository;
+
+    @Value("${post.count-cache.ttl-ms:30000}")
+    private long ttlMillis;
+
+    private final AtomicLong count = new AtomicLong();
+    private volatile long loadedAt = -1;
+
+    // 전체 게시글 수 조회 (TTL이 지났으면 다시 계산)
+    public long getCount() {
+        if (loadedAt < 0 || System.currentTimeMillis() - loadedAt > ttlMillis) {
+            reload();
+        }
+        return Math.max(count.get(), 0);
+    }
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    public void decrement() {
+        count.decrementAndGet();
+    }
+
+    private synchronized void reload() {
+        // 다른 스레드가 먼저 갱신했으면 생략
+        if (loadedAt >= 0 && System.currentTimeMillis() - loadedAt <= ttlMillis) {
+            return;
+        }
+        count.set(postRepository.count());
+        loadedAt = System.currentTimeMillis();
+    }
+}
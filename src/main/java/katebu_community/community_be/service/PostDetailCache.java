@@ -0,0 +1,130 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.event.PostChangedEvent;
+import katebu_community.community_be.event.PostCountersChangedEvent;
+import katebu_community.community_be.event.UserProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시글 상세 조회 캐시 (사용자와 무관한 부분만 저장)
+// - 게시글 수정/삭제, 작성자 정보 변경이 커밋되면 무효화
+// - 좋아요/댓글/조회수는 캐시 이후의 증감량을 덧씌워서 응답
+// - 본문 버전(updatedAt)과 좋아요/댓글 수로 ETag 생성 (조회수는 매 조회마다 바뀌므로 제외)
+@Component
+public class PostDetailCache {
+
+    @Value("${post.detail-cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${post.detail-cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    // 게시글 ID -> 캐시 항목 (접근 순서 기준 LRU)
+    private final Map<Long, Entry> entries = Collections.synchronizedMap(
+            new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+    // 무효화될 때마다 증가 (무효화 이전에 조회한 결과가 캐시에 들어가는 것을 방지)
+    private final AtomicLong generation = new AtomicLong();
+
+    public record Snapshot(Long postId, String title, String content, String img, LocalDateTime createdAt,
+                           long version, int likeCnt, int commentCnt, int viewCnt,
+                           Long writerId, String writerName, String writerImg) {
+
+        // 사용자별 좋아요/작성자 여부까지 반영한 ETag
+        public String etag(boolean liked, boolean author) {
+            return "W/\"" + postId + "-" + version + "-" + likeCnt + "-" + commentCnt + "-"
+                    + (liked ? 1 : 0) + (author ? 1 : 0) + "\"";
+        }
+    }
+
+    private record Entry(Snapshot snapshot, long cachedAt,
+                         AtomicInteger views, AtomicInteger likes, AtomicInteger comments) {
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    // 캐시 조회 (없거나 만료되었으면 null)
+    public Snapshot get(Long postId) {
+        Entry entry = entries.get(postId);
+        if (entry == null || System.currentTimeMillis() - entry.cachedAt() > ttlMillis) {
+            return null;
+        }
+        Snapshot s = entry.snapshot();
+        return new Snapshot(s.postId(), s.title(), s.content(), s.img(), s.createdAt(), s.version(),
+                Math.max(s.likeCnt() + entry.likes().get(), 0),
+                Math.max(s.commentCnt() + entry.comments().get(), 0),
+                s.viewCnt() + entry.views().get(),
+                s.writerId(), s.writerName(), s.writerImg());
+    }
+
+    // 캐시 저장 (조회 도중 무효화되었으면 저장하지 않음)
+    public void put(long generationAtLoad, Snapshot snapshot) {
+        if (generationAtLoad != generation.get()) {
+            return;
+        }
+        entries.put(snapshot.postId(), new Entry(snapshot, System.currentTimeMillis(),
+                new AtomicInteger(), new AtomicInteger(), new AtomicInteger()));
+    }
+
+    public void evict(Long postId) {
+        generation.incrementAndGet();
+        entries.remove(postId);
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    // If-None-Match 헤더 값(여러 개 가능)에 현재 ETag가 포함되어 있는지 확인
+    public static boolean matches(String ifNoneMatch, String etag) {
+        String current = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        evictAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersChanged(PostCountersChangedEvent event) {
+        Entry entry = entries.get(event.postId());
+        if (entry == null) {
+            return;
+        }
+        entry.views().addAndGet(event.viewDelta());
+        entry.likes().addAndGet(event.likeDelta());
+        entry.comments().addAndGet(event.commentDelta());
+    }
+}
@@ -0,0 +1,62 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.repository.CommentRepository;
+import katebu_community.community_be.repository.LikesRepository;
+import katebu_community.community_be.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// soft-delete된 게시글 정리 작업
+// 댓글/좋아요를 chunk-size개씩 별도 트랜잭션으로 삭제해서 긴 락/트랜잭션 없이 정리하고,
+// 자식 행이 모두 지워지면 게시글 행을 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPurgeJob {
+
+    private static final int POSTS_PER_RUN = 100;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikesRepository likesRepository;
+
+    @Value("${post.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    // 주기적으로 soft-delete된 게시글 정리
+    @Scheduled(fixedDelayString = "${post.purge.interval-ms:10000}")
+    public synchronized void purge() {
+        List<Long> postIds = postRepository.findSoftDeletedIds(POSTS_PER_RUN);
+        for (Long postId : postIds) {
+            try {
+                purgePost(postId);
+            } catch (DataAccessException e) {
+                // 실패한 게시글은 soft-delete 상태로 남아 다음 주기에 다시 정리
+                log.warn("게시글 정리 실패 postId={}", postId, e);
+            }
+        }
+    }
+
+    // 회원의 soft-delete된 게시글을 즉시 정리 (회원 탈퇴 전 호출)
+    public synchronized void purgeByUser(Long userId) {
+        for (Long postId : postRepository.findSoftDeletedIdsByUserId(userId)) {
+            purgePost(postId);
+        }
+    }
+
+    private void purgePost(Long postId) {
+        while (commentRepository.deleteChunkByPostId(postId, chunkSize) > 0) {
+            // 남은 댓글이 없을 때까지 반복
+        }
+        while (likesRepository.deleteChunkByPostId(postId, chunkSize) > 0) {
+            // 남은 좋아요가 없을 때까지 반복
+        }
+        postRepository.deleteSoftDeletedById(postId);
+    }
+}
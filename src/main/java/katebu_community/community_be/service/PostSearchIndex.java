@@ -0,0 +1,261 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.dto.PostSearchSourceView;
+import katebu_community.community_be.event.PostChangedEvent;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.util.NgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 검색용 역색인 (메모리)
+// 제목/본문을 NgramTokenizer로 토큰화해서 토큰 -> (게시글 ID -> 가중 빈도) 목록을 유지하고,
+// BM25 점수에 최신 게시글 가중치를 곱해 상위 k개를 반환.
+// 시작 시 posts 테이블에서 다시 만들고, 이후에는 게시글 변경 이벤트(커밋 후)로 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int MAX_CONTENT_CHARS = 20_000;  // 본문은 앞부분만 색인 (메모리 제한)
+    private static final int TITLE_WEIGHT = 3;            // 제목 토큰은 본문보다 가중
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double MIN_MATCH_RATIO = 0.5;    // 검색어 토큰 중 최소 일치 비율
+    private static final double RECENCY_BOOST = 0.5;      // 새 글일수록 최대 1.5배
+    private static final double RECENCY_HALF_LIFE_DAYS = 30;
+
+    private final PostRepository postRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Map<Long, Integer>> postings = new HashMap<>(); // 토큰 -> (게시글 ID -> 빈도)
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+
+    // 재색인 중 삭제된 게시글 (재색인이 이전에 읽은 내용으로 다시 추가하지 않도록)
+    private boolean rebuilding;
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+
+    // 색인된 게시글 정보 (삭제 시 포스팅 제거용 토큰 목록 포함)
+    private record Doc(int[] terms, int length, long createdAtMillis) {
+    }
+
+    public record Hit(Long postId, double score) {
+    }
+
+    // 시작 시 전체 게시글로 색인 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            removedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int indexed = 0;
+        int tokens;
+        try {
+            Long lastId = 0L;
+            List<PostSearchSourceView> chunk;
+            do {
+                chunk = postRepository.findSearchSourcesAfter(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                lock.writeLock().lock();
+                try {
+                    for (PostSearchSourceView post : chunk) {
+                        // 이벤트로 이미 색인/삭제된 게시글은 건너뜀
+                        if (!docs.containsKey(post.getPostId()) && !removedDuringRebuild.contains(post.getPostId())) {
+                            put(post.getPostId(), post.getTitle(), post.getContent(), post.getCreatedAt());
+                            indexed++;
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getPostId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                removedDuringRebuild.clear();
+                tokens = postings.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("검색 색인 생성 완료: 게시글 {}개, 토큰 {}개 ({}ms)",
+                indexed, tokens, System.currentTimeMillis() - startedAt);
+    }
+
+    // 게시글 작성/수정/삭제가 커밋된 후 색인 갱신
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            remove(event.postId());
+            return;
+        }
+        postRepository.findSearchSourceById(event.postId()).ifPresentOrElse(
+                post -> index(post.getPostId(), post.getTitle(), post.getContent(), post.getCreatedAt()),
+                () -> remove(event.postId()));
+    }
+
+    // 게시글 색인 (이미 있으면 교체)
+    public void index(Long postId, String title, String content, LocalDateTime createdAt) {
+        lock.writeLock().lock();
+        try {
+            put(postId, title, content, createdAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            delete(postId);
+            if (rebuilding) {
+                removedDuringRebuild.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어와 관련된 게시글 상위 limit개 (점수 내림차순)
+    public List<Hit> search(String query, int limit) {
+        int[] queryTerms = NgramTokenizer.distinct(NgramTokenizer.tokenize(query, MAX_CONTENT_CHARS));
+        if (queryTerms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (docs.isEmpty()) {
+                return List.of();
+            }
+            int docCount = docs.size();
+            double avgLength = (double) totalLength / docCount;
+
+            // 토큰별 포스팅을 돌며 BM25 점수 누적
+            Map<Long, double[]> scores = new HashMap<>(); // 게시글 ID -> {점수, 일치한 토큰 수}
+            for (int term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    Doc doc = docs.get(entry.getKey());
+                    int tf = entry.getValue();
+                    double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * doc.length() / avgLength));
+                    double[] score = scores.computeIfAbsent(entry.getKey(), id -> new double[2]);
+                    score[0] += idf * norm;
+                    score[1]++;
+                }
+            }
+
+            // 최소 일치 비율을 넘는 게시글 중 최신 가중치를 반영한 상위 limit개
+            int minMatches = Math.max(1, (int) Math.ceil(queryTerms.length * MIN_MATCH_RATIO));
+            long now = System.currentTimeMillis();
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+                double[] score = entry.getValue();
+                if (score[1] < minMatches) {
+                    continue;
+                }
+                double ageDays = Math.max(0, now - docs.get(entry.getKey()).createdAtMillis()) / 86_400_000.0;
+                double recency = 1 + RECENCY_BOOST * Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+                Hit hit = new Hit(entry.getKey(), score[0] * recency);
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (hit.score() > top.peek().score()) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            List<Hit> result = new ArrayList<>(top);
+            result.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void put(Long postId, String title, String content, LocalDateTime createdAt) {
+        delete(postId);
+
+        // 토큰별 빈도 (제목은 TITLE_WEIGHT배)
+        Map<Integer, Integer> frequencies = new HashMap<>();
+        int[] titleTokens = NgramTokenizer.tokenize(title, MAX_CONTENT_CHARS);
+        int[] contentTokens = NgramTokenizer.tokenize(content, MAX_CONTENT_CHARS);
+        for (int token : titleTokens) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (int token : contentTokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        int[] terms = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(postId, entry.getValue());
+            terms[i++] = entry.getKey();
+        }
+        int length = titleTokens.length * TITLE_WEIGHT + contentTokens.length;
+        long createdAtMillis = createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+        docs.put(postId, new Doc(terms, length, createdAtMillis));
+        totalLength += length;
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private void delete(Long postId) {
+        Doc doc = docs.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        for (int term : doc.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= doc.length();
+    }
+}
@@ -1,9 +1,12 @@
 package katebu_community.community_be.service;
 
-import katebu_community.community_be.domain.Likes;
 import katebu_community.community_be.domain.Post;
 import katebu_community.community_be.domain.User;
 import katebu_community.community_be.dto.*;
+import katebu_community.community_be.event.ImageDiscardedEvent;
+import katebu_community.community_be.event.LikeChangedEvent;
+import katebu_community.community_be.event.PostChangedEvent;
+import katebu_community.community_be.event.PostCountersChangedEvent;
 import katebu_community.community_be.exception.AlreadyLikedException;
 import katebu_community.community_be.exception.AlreadyUnlikedException;
 import katebu_community.community_be.exception.PostNotFoundException;
@@ -11,27 +14,49 @@ import katebu_community.community_be.exception.UnauthorizedException;
 import katebu_community.community_be.repository.CommentRepository;
 import katebu_community.community_be.repository.LikesRepository;
 import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final LikesRepository likesRepository;
     private final FileUploadService fileUploadService;
     private final UserCommonService userCommonService;
+    private final PostCountCache postCountCache;
+    private final FeedCache feedCache;
+    private final ViewCountAggregator viewCountAggregator;
+    private final LikedPostCache likedPostCache;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingRanking trendingRanking;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 댓글 수가 이 값 이상이면 삭제 시 soft-delete 후 백그라운드에서 정리
+    @Value("${post.delete.soft-delete-threshold:500}")
+    private int softDeleteThreshold;
 
     // 게시글 작성
     @Transactional
@@ -53,6 +78,8 @@ public class PostService {
                 .imgUrl(imageUrl)
                 .build();
         Post saved = postRepository.save(post);
+        postCountCache.increment();
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), PostChangedEvent.Type.CREATED));
         return saved.getId();
     }
 
@@ -80,159 +107,383 @@ public class PostService {
         }
 
         Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), PostChangedEvent.Type.UPDATED));
         return saved.getId();
     }
 
     // 게시글 삭제
     @Transactional
     public void deletePost(Long userId, Long postId) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
+        // 권한 확인과 삭제 방식 결정에 필요한 컬럼만 조회 (본문은 읽지 않음)
+        PostOwnerView post = postRepository.findOwnerViewById(postId)
                 .orElseThrow(() -> new PostNotFoundException("게시글 없음"));
 
         // 삭제 권한 확인
-        if (!post.getUser().getId().equals(userId)) {
+        if (!post.getWriterId().equals(userId)) {
             throw new UnauthorizedException("권한 없음");
         }
 
-        // 게시글 삭제 전 댓글 삭제
-        commentRepository.deleteByPostId(postId);
+        // 게시글 행을 먼저 soft-delete해서 잠금 (댓글 작성/좋아요와 같은 게시글 → 자식 순서로 락 획득)
+        // 동시에 들어온 중복 삭제 요청은 영향받은 행이 없으므로 캐시/이벤트를 다시 처리하지 않음
+        if (postRepository.softDeleteById(postId) == 0) {
+            throw new PostNotFoundException("게시글 없음");
+        }
 
-        // 본문 이미지 삭제
-        fileUploadService.deleteImage(post.getImgUrl());
+        // 댓글이 많은 게시글은 soft-delete 상태로 두고 댓글/좋아요는 PostPurgeJob이 나눠서 정리
+        if (post.getCommentCnt() < softDeleteThreshold) {
+            // 댓글/좋아요/게시글을 DELETE 한 번씩으로 삭제
+            commentRepository.deleteByPostIdInBulk(postId);
+            likesRepository.deleteByPostIdInBulk(postId);
+            postRepository.deleteSoftDeletedById(postId);
+        }
+        postCountCache.decrement();
 
-        // 게시글 삭제
-        postRepository.delete(post);
+        // 본문 이미지는 커밋 후 삭제
+        eventPublisher.publishEvent(new ImageDiscardedEvent(post.getImgUrl()));
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.DELETED));
     }
 
     // 게시글 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDetailDto getPostDetail(
             Long userId,
             Long postId) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글 없음"));
+        // 사용자와 무관한 부분은 캐시에서 조회하고, 좋아요 여부만 요청마다 계산
+        PostDetailCache.Snapshot snapshot = postDetailCache.get(postId);
+        boolean liked;
+        if (snapshot != null) {
+            liked = likedPostCache.isLiked(userId, postId);
+        } else {
+            // 캐시에 없으면 게시글, 작성자, 좋아요 여부를 한 번의 쿼리로 조회 후 캐시
+            long generation = postDetailCache.currentGeneration();
+            PostDetailView view = postRepository.findDetailById(postId, userId)
+                    .orElseThrow(() -> new PostNotFoundException("게시글 없음"));
+            snapshot = toDetailSnapshot(view);
+            postDetailCache.put(generation, snapshot);
+            liked = view.isLiked();
+        }
+
+        // 조회수 증가 (메모리에 누적 후 주기적으로 DB 반영)
+        recordView(postId);
 
-        // 조회수 증가
-        post.setViewCnt(post.getViewCnt() + 1);
+        boolean author = userId != null && userId.equals(snapshot.writerId());
 
-        // 엔티티를 PostDetailDto로 변환해서 반환
+        // 스냅샷을 PostDetailDto로 변환해서 반환 (이번 조회수 포함)
         return PostDetailDto.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .img(post.getImgUrl())
-                .createdAt(post.getCreatedAt())
-                .likeCnt(post.getLikeCnt())
-                .commentCnt(post.getCommentCnt())
-                .viewCnt(post.getViewCnt())
+                .postId(snapshot.postId())
+                .title(snapshot.title())
+                .content(snapshot.content())
+                .img(snapshot.img())
+                .createdAt(snapshot.createdAt())
+                .likeCnt(snapshot.likeCnt())
+                .commentCnt(snapshot.commentCnt())
+                .viewCnt(snapshot.viewCnt() + 1)
                 .writer(WriterDto.builder()
-                        .writerId(post.getUser().getId())
-                        .writerName(post.getUser().getNickname())
-                        .writerImg(post.getUser().getProfileUrl())
+                        .writerId(snapshot.writerId())
+                        .writerName(snapshot.writerName())
+                        .writerImg(snapshot.writerImg())
                         .build())
-                .liked(userId != null && likesRepository.existsByPostIdAndUserId(postId, userId))
-                .author(userId != null && userId.equals(post.getUser().getId()))
+                .liked(liked)
+                .author(author)
+                .etag(snapshot.etag(liked, author))
                 .build();
     }
 
+    // 클라이언트가 가진 게시글이 최신이면 현재 ETag 반환, 아니면 null
+    // (캐시에 있을 때만 확인하므로 DB 조회 없음)
+    public String findNotModifiedETag(Long userId, Long postId, String ifNoneMatch) {
+        PostDetailCache.Snapshot snapshot = postDetailCache.get(postId);
+        if (snapshot == null) {
+            return null;
+        }
+        boolean liked = likedPostCache.isLiked(userId, postId);
+        boolean author = userId != null && userId.equals(snapshot.writerId());
+        String etag = snapshot.etag(liked, author);
+        if (!PostDetailCache.matches(ifNoneMatch, etag)) {
+            return null;
+        }
+
+        // 304 응답도 조회수에 반영
+        recordView(postId);
+        return etag;
+    }
+
     // 게시글 목록 조회
     @Transactional(readOnly = true)
-    public PostListResponseDto getPosts(int page) {
+    public PostListResponseDto getPosts(Long userId, int page, boolean withTotal) {
 
         // 페이지 값 유효성 검사
-        int pageSize = 10;
         if (page < 0) {
             throw new IllegalArgumentException("유효하지 않은 페이지 값");
         }
 
-        // 게시글 목록 조회
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by("createdAt").descending());
-        Page<Post> postPage = postRepository.findAll(pageable);
-
-        // 게시글 목록을 PostSummaryDto 리스트로 변환
-        List<PostSummaryDto> posts = postPage.getContent().stream().map(post ->
-                PostSummaryDto.builder()
-                        .postId(post.getId())
-                        .title(post.getTitle())
-                        .createdAt(post.getCreatedAt())
-                        .likeCnt(post.getLikeCnt())
-                        .commentCnt(post.getCommentCnt())
-                        .viewCnt(post.getViewCnt())
-                        .writerId(post.getUser().getId())
-                        .writerName(post.getUser().getNickname())
-                        .writerImg(post.getUser().getProfileUrl())
-                        .build()
-        ).collect(Collectors.toList());
+        // 게시글 목록 조회 (앞쪽 페이지는 캐시 사용)
+        FeedCache.FeedPage feedPage = loadFeedPage(page);
+        applyLiked(userId, feedPage.posts());
 
         // 페이징 정보
         PageableInfoDto pageableInfo = PageableInfoDto.builder()
-                .pageNumber(postPage.getNumber())
-                .pageSize(postPage.getSize())
-                .offset(postPage.getPageable().getOffset())
+                .pageNumber(page)
+                .pageSize(PAGE_SIZE)
+                .offset((long) page * PAGE_SIZE)
                 .build();
 
+        PostListResponseDto.PostListResponseDtoBuilder builder = PostListResponseDto.builder()
+                .posts(feedPage.posts())
+                .pageable(pageableInfo)
+                .last(!feedPage.hasNext())
+                .first(page == 0)
+                .size(PAGE_SIZE)
+                .number(page);
+
+        // 전체 개수는 요청한 경우에만 캐시된 근사값으로 계산
+        if (withTotal) {
+            long totalElements = postCountCache.getCount();
+            builder.totalElements(totalElements)
+                    .totalPages((int) ((totalElements + PAGE_SIZE - 1) / PAGE_SIZE));
+        }
+
         // PostListResponseDto로 data 객체를 반환
+        return builder.build();
+    }
+
+    // 게시글 목록 조회 (커서 방식)
+    @Transactional(readOnly = true)
+    public PostListResponseDto getPostsByCursor(Long userId, String cursor) {
+        boolean first = (cursor == null || cursor.isBlank());
+
+        List<PostSummaryDto> posts;
+        boolean hasNext;
+        if (first) {
+            // 첫 페이지는 오프셋 방식 0페이지와 같으므로 캐시 공유
+            FeedCache.FeedPage feedPage = loadFeedPage(0);
+            posts = feedPage.posts();
+            hasNext = feedPage.hasNext();
+        } else {
+            // 다음 페이지 존재 여부 확인을 위해 1개 더 조회 (offset, count 쿼리 없음)
+            CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+            List<PostSummaryView> fetched = postRepository.findSummaryPageAfter(
+                    decoded.createdAt(), decoded.id(), PageRequest.of(0, PAGE_SIZE + 1));
+
+            hasNext = fetched.size() > PAGE_SIZE;
+            posts = fetched.stream()
+                    .limit(PAGE_SIZE)
+                    .map(this::toSummaryDto)
+                    .collect(Collectors.toList());
+        }
+
+        applyLiked(userId, posts);
+
+        // 마지막 게시글 기준으로 다음 커서 생성
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryDto lastPost = posts.get(posts.size() - 1);
+            nextCursor = CursorCodec.encode(lastPost.getCreatedAt(), lastPost.getPostId());
+        }
+
         return PostListResponseDto.builder()
                 .posts(posts)
-                .pageable(pageableInfo)
-                .totalPages(postPage.getTotalPages())
-                .totalElements(postPage.getTotalElements())
-                .last(postPage.isLast())
-                .first(postPage.isFirst())
-                .size(postPage.getSize())
-                .number(postPage.getNumber())
+                .last(!hasNext)
+                .first(first)
+                .size(PAGE_SIZE)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    // 회원별 게시글 목록 조회 (커서 방식, 본문 없이 목록용 정보만 조회)
+    @Transactional(readOnly = true)
+    public PostListResponseDto getUserPosts(Long userId, Long writerId, String cursor) {
+        // 회원 확인 (없거나 탈퇴 처리 중이면 예외)
+        userCommonService.getUserOrThrow(writerId);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        boolean first = (cursor == null || cursor.isBlank());
+        PageRequest limit = PageRequest.of(0, PAGE_SIZE + 1);
+        List<PostSummaryView> fetched;
+        if (first) {
+            fetched = postRepository.findSummariesByUserId(writerId, limit);
+        } else {
+            CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+            fetched = postRepository.findSummariesByUserIdAfter(writerId, decoded.createdAt(), decoded.id(), limit);
+        }
+
+        boolean hasNext = fetched.size() > PAGE_SIZE;
+        List<PostSummaryDto> posts = fetched.stream()
+                .limit(PAGE_SIZE)
+                .map(this::toSummaryDto)
+                .collect(Collectors.toList());
+        applyLiked(userId, posts);
+
+        // 마지막 게시글 기준으로 다음 커서 생성
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryDto lastPost = posts.get(posts.size() - 1);
+            nextCursor = CursorCodec.encode(lastPost.getCreatedAt(), lastPost.getPostId());
+        }
+
+        return PostListResponseDto.builder()
+                .posts(posts)
+                .last(!hasNext)
+                .first(first)
+                .size(PAGE_SIZE)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 게시글 검색 (메모리 역색인에서 상위 size개 ID를 찾은 뒤 목록용 정보만 조회)
+    @Transactional(readOnly = true)
+    public PostSearchResponseDto searchPosts(Long userId, String query, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH
+                || size <= 0 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("유효하지 않은 검색 요청");
+        }
+
+        List<Long> postIds = postSearchIndex.search(query, size).stream()
+                .map(PostSearchIndex.Hit::postId)
+                .toList();
+        List<PostSummaryDto> posts = loadSummariesInOrder(postIds);
+        applyLiked(userId, posts);
+
+        return PostSearchResponseDto.builder()
+                .query(query)
+                .posts(posts)
+                .build();
+    }
+
+    // 인기 게시글 조회 (메모리 순위에서 상위 size개 ID를 찾은 뒤 목록용 정보만 조회)
+    @Transactional(readOnly = true)
+    public List<PostSummaryDto> getTrendingPosts(Long userId, int size) {
+        if (size <= 0 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("유효하지 않은 페이지 크기");
+        }
+        List<PostSummaryDto> posts = loadSummariesInOrder(trendingRanking.top(size));
+        applyLiked(userId, posts);
+        return posts;
+    }
+
     // 좋아요 추가
     @Transactional
     public void addLike(Long userId, Long postId) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글 없음"));
+        // 탈퇴 처리 중인 회원은 좋아요 불가 (탈퇴 작업이 지운 뒤 다시 생기지 않도록)
+        userCommonService.checkActiveUser(userId);
 
-        // 중복 좋아요 여부 확인
-        if (likesRepository.existsByPostIdAndUserId(postId, userId)) {
+        // 좋아요 추가 (likes(post_id, user_id) 유니크 제약으로 중복 방지)
+        if (likesRepository.insertIgnore(postId, userId) == 0) {
             throw new AlreadyLikedException("이미 좋아요를 눌렀습니다.");
         }
 
-        // 좋아요 추가
-        Likes like = Likes.builder()
-                .postId(postId)
-                .userId(userId)
-                .build();
-        likesRepository.save(like);
-
-        // 게시글의 좋아요 수 증가
-        post.setLikeCnt(post.getLikeCnt() + 1);
-        postRepository.save(post);
+        // 게시글의 좋아요 수 증가 (변경된 행이 없으면 게시글 없음 → 롤백)
+        if (postRepository.incrementLikeCnt(postId) == 0) {
+            throw new PostNotFoundException("게시글 없음");
+        }
+        eventPublisher.publishEvent(PostCountersChangedEvent.liked(postId, 1));
+        eventPublisher.publishEvent(new LikeChangedEvent(userId, postId, true));
     }
 
     // 좋아요 삭제
     @Transactional
     public void deleteLike(Long userId, Long postId) {
-        // 게시글 조회
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("게시글 없음"));
-
-        // 좋아요 조회
-        Likes like = likesRepository.findByPostIdAndUserId(postId, userId)
-                .orElse(null);
-
-        if (like != null) {
-            // 좋아요 삭제
-            likesRepository.delete(like);
-            // 게시글의 좋아요 수 감소
-            if (post.getLikeCnt() > 0) {
-                post.setLikeCnt(post.getLikeCnt() - 1);
-            } else {
-                post.setLikeCnt(0);
+        // 좋아요 삭제
+        if (likesRepository.deleteByPostIdAndUserIdInBulk(postId, userId) == 0) {
+            // 삭제된 좋아요가 없으면 게시글 존재 여부로 응답 구분
+            if (!postRepository.existsById(postId)) {
+                throw new PostNotFoundException("게시글 없음");
             }
-            postRepository.save(post);
-        } else {
             throw new AlreadyUnlikedException("이미 좋아요를 취소했습니다.");
         }
+
+        // 게시글의 좋아요 수 감소
+        postRepository.decrementLikeCnt(postId);
+        eventPublisher.publishEvent(PostCountersChangedEvent.liked(postId, -1));
+        eventPublisher.publishEvent(new LikeChangedEvent(userId, postId, false));
+    }
+
+    // 목록 한 페이지 조회 (캐시 대상 페이지면 캐시 우선)
+    private FeedCache.FeedPage loadFeedPage(int page) {
+        boolean cacheable = feedCache.isCacheable(page);
+        if (cacheable) {
+            FeedCache.FeedPage cached = feedCache.get(page);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 작성자 정보 포함 단일 쿼리, size+1개 조회로 다음 페이지 여부 판단
+        long generation = feedCache.currentGeneration();
+        Slice<PostSummaryView> postSlice = postRepository.findSummarySlice(PageRequest.of(page, PAGE_SIZE));
+
+        // 게시글 목록을 PostSummaryDto 리스트로 변환
+        List<PostSummaryDto> posts = postSlice.getContent().stream()
+                .map(this::toSummaryDto)
+                .collect(Collectors.toList());
+
+        if (cacheable) {
+            feedCache.put(page, generation, posts, postSlice.hasNext());
+        }
+        return new FeedCache.FeedPage(posts, postSlice.hasNext());
+    }
+
+    // 상세 조회 결과를 캐시용 스냅샷으로 변환
+    private PostDetailCache.Snapshot toDetailSnapshot(PostDetailView view) {
+        // 수정 시각을 본문 버전으로 사용
+        LocalDateTime versionTime = view.getUpdatedAt() != null ? view.getUpdatedAt() : view.getCreatedAt();
+        return new PostDetailCache.Snapshot(
+                view.getPostId(),
+                view.getTitle(),
+                view.getContent(),
+                view.getImgUrl(),
+                view.getCreatedAt(),
+                versionTime.atZone(ZoneOffset.UTC).toInstant().toEpochMilli(),
+                view.getLikeCnt(),
+                view.getCommentCnt(),
+                view.getViewCnt() + viewCountAggregator.getPending(view.getPostId()),
+                view.getWriterId(),
+                view.getWriterName(),
+                view.getWriterImg());
+    }
+
+    // 조회수 1 증가
+    private void recordView(Long postId) {
+        viewCountAggregator.increment(postId);
+        eventPublisher.publishEvent(PostCountersChangedEvent.viewed(postId));
+    }
+
+    // 로그인한 경우 목록의 좋아요 여부 표시 (페이지당 한 번 조회)
+    private void applyLiked(Long userId, List<PostSummaryDto> posts) {
+        if (userId == null || posts.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = posts.stream().map(PostSummaryDto::getPostId).toList();
+        Set<Long> likedPostIds = likedPostCache.findLiked(userId, postIds);
+        posts.forEach(post -> post.setLiked(likedPostIds.contains(post.getPostId())));
+    }
+
+    // 주어진 ID 순서대로 목록용 정보 조회 (그 사이 삭제된 게시글은 제외)
+    private List<PostSummaryDto> loadSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummaryView> views = postRepository.findSummariesByIds(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryView::getPostId, view -> view));
+        return postIds.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(this::toSummaryDto)
+                .collect(Collectors.toList());
+    }
+
+    // 목록 조회 프로젝션을 PostSummaryDto로 변환
+    private PostSummaryDto toSummaryDto(PostSummaryView view) {
+        return PostSummaryDto.builder()
+                .postId(view.getPostId())
+                .title(view.getTitle())
+                .createdAt(view.getCreatedAt())
+                .likeCnt(view.getLikeCnt())
+                .commentCnt(view.getCommentCnt())
+                .viewCnt(view.getViewCnt() + viewCountAggregator.getPending(view.getPostId()))
+                .writerId(view.getWriterId())
+                .writerName(view.getWriterName())
+                .writerImg(view.getWriterImg())
+                .build();
     }
 }
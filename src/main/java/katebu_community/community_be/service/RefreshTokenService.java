@@ -0,0 +1,159 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.domain.RefreshToken;
+import katebu_community.community_be.event.RefreshTokensRevokedEvent;
+import katebu_community.community_be.exception.InvalidRefreshTokenException;
+import katebu_community.community_be.repository.RefreshTokenRepository;
+import katebu_community.community_be.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 리프레시 토큰 발급/교체 (비밀번호 검증 없이 액세스 토큰 재발급)
+// - DB에는 토큰 SHA-256 다이제스트만 저장, 만료되지 않은 토큰은 메모리 인덱스에도 보관
+// - 인덱스에 없는 토큰은 DB 조회 없이 거절
+// - 사용할 때마다 같은 family의 새 토큰으로 교체, 이미 사용된 토큰이 다시 오면 탈취로 보고 family 전체 폐기
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-token-valid-ms:1209600000}") // 기본 14일
+    private long refreshTokenValidMillis;
+
+    // 토큰 다이제스트 -> 토큰 정보 (사용된 토큰도 만료 전까지 유지해서 재사용 감지에 사용)
+    private final Map<TokenDigest, Entry> index = new ConcurrentHashMap<>();
+
+    private record Entry(Long id, Long userId, Long familyId, LocalDateTime expiresAt) {
+    }
+
+    private record Issued(String token, TokenDigest digest, Entry entry) {
+    }
+
+    // 교체 결과 (회원 ID와 새 리프레시 토큰)
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    // 애플리케이션 시작 시 만료되지 않은 토큰으로 인덱스 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        long lastId = 0;
+        List<RefreshToken> chunk;
+        do {
+            chunk = refreshTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                    lastId, now, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (RefreshToken token : chunk) {
+                index.put(TokenDigest.fromBytes(token.getTokenHash()),
+                        new Entry(token.getId(), token.getUserId(), token.getFamilyId(), token.getExpiresAt()));
+                lastId = token.getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        log.info("리프레시 토큰 인덱스 생성 완료: {}건", index.size());
+    }
+
+    // 로그인 시 새 family로 토큰 발급
+    public String issue(Long userId) {
+        long familyId = secureRandom.nextLong() & Long.MAX_VALUE;
+        Issued issued = transactionTemplate.execute(status -> create(userId, familyId));
+        index.put(issued.digest(), issued.entry());
+        return issued.token();
+    }
+
+    // 리프레시 토큰을 새 토큰으로 교체
+    public Rotation rotate(String refreshToken) {
+        TokenDigest digest = TokenDigest.of(refreshToken);
+        Entry entry = index.get(digest);
+        if (entry == null) {
+            throw new InvalidRefreshTokenException("유효하지 않은 토큰입니다.");
+        }
+        if (!entry.expiresAt().isAfter(LocalDateTime.now())) {
+            index.remove(digest, entry);
+            throw new InvalidRefreshTokenException("만료된 토큰입니다.");
+        }
+
+        // 사용 처리와 새 토큰 저장을 한 트랜잭션에서 (이미 사용된 토큰이면 null)
+        Issued next = transactionTemplate.execute(status -> {
+            if (refreshTokenRepository.markUsed(entry.id()) == 0) {
+                return null;
+            }
+            return create(entry.userId(), entry.familyId());
+        });
+
+        if (next == null) {
+            // 이미 교체된 토큰 재사용 (탈취 가능성) -> family 전체 폐기
+            log.warn("리프레시 토큰 재사용 감지 userId={} familyId={}", entry.userId(), entry.familyId());
+            transactionTemplate.executeWithoutResult(status ->
+                    refreshTokenRepository.deleteByFamilyIdInBulk(entry.familyId()));
+            index.values().removeIf(e -> e.familyId().equals(entry.familyId()));
+            throw new InvalidRefreshTokenException("이미 사용된 토큰입니다. 다시 로그인해 주세요.");
+        }
+
+        index.put(next.digest(), next.entry());
+        return new Rotation(entry.userId(), next.token());
+    }
+
+    // 회원의 토큰 전체 폐기 (호출한 쪽 트랜잭션에서 삭제, 커밋 후 인덱스에서 제거)
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserIdInBulk(userId);
+        eventPublisher.publishEvent(new RefreshTokensRevokedEvent(userId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRevoked(RefreshTokensRevokedEvent event) {
+        index.values().removeIf(e -> e.userId().equals(event.userId()));
+    }
+
+    // 만료된 토큰 정리
+    @Scheduled(fixedDelayString = "${refresh-token.cleanup-interval-ms:3600000}")
+    public void removeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpired(now));
+        index.values().removeIf(e -> !e.expiresAt().isAfter(now));
+        log.debug("만료된 리프레시 토큰 삭제: {}건", deleted);
+    }
+
+    // 메모리 인덱스 크기 (테스트/모니터링용)
+    public int indexSize() {
+        return index.size();
+    }
+
+    private Issued create(Long userId, Long familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        TokenDigest digest = TokenDigest.of(token);
+
+        RefreshToken saved = refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(digest.toBytes())
+                .userId(userId)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshTokenValidMillis)))
+                .build());
+        return new Issued(token, digest, new Entry(saved.getId(), userId, familyId, saved.getExpiresAt()));
+    }
+}
@@ -0,0 +1,170 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.dto.PostSummaryView;
+import katebu_community.community_be.event.PostChangedEvent;
+import katebu_community.community_be.event.PostCountersChangedEvent;
+import katebu_community.community_be.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 인기 게시글 순위 (메모리 top-K)
+// 조회/좋아요/댓글마다 가중치를 더하고 반감기(half-life)마다 점수가 절반이 되도록 감쇠.
+// 매번 모든 점수를 줄이는 대신 기준 시각(baseTime) 이후 경과 시간만큼 키운 값을 더해 두면
+// 순서가 그대로 유지되므로, 주기적으로 기준 시각만 옮기면서(rebase) 전체 점수를 한 번에 줄임
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingRanking {
+
+    private static final double VIEW_WEIGHT = 1;
+    private static final double LIKE_WEIGHT = 5;
+    private static final double COMMENT_WEIGHT = 3;
+    private static final double MIN_SCORE = 0.01;  // rebase 시 이보다 낮은 게시글은 제외
+    private static final int SEED_SIZE = 200;      // 시작 시 최근 게시글로 초기 점수 계산
+
+    private final PostRepository postRepository;
+
+    @Value("${trending.half-life-ms:21600000}")
+    private long halfLifeMillis;
+
+    @Value("${trending.max-tracked:10000}")
+    private int maxTracked;
+
+    // 점수 높은 순 (같으면 최신 ID 순)
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(
+            Comparator.comparingDouble(Entry::score).reversed().thenComparing(Entry::postId, Comparator.reverseOrder()));
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+
+    // 점수 갱신은 읽기 락(동시 진행), rebase는 쓰기 락
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long baseTime = System.currentTimeMillis();
+
+    private record Entry(double score, Long postId) {
+    }
+
+    // 시작 시 최근 게시글의 누적 카운터로 초기 순위 계산
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        for (PostSummaryView post : postRepository.findSummarySlice(PageRequest.of(0, SEED_SIZE))) {
+            double weight = post.getViewCnt() * VIEW_WEIGHT
+                    + post.getLikeCnt() * LIKE_WEIGHT
+                    + post.getCommentCnt() * COMMENT_WEIGHT;
+            long ageMillis = Duration.between(post.getCreatedAt(), now).toMillis();
+            add(post.getPostId(), weight * Math.pow(0.5, (double) Math.max(ageMillis, 0) / halfLifeMillis));
+        }
+    }
+
+    // 조회수/좋아요/댓글 변경이 커밋된 후 점수 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersChanged(PostCountersChangedEvent event) {
+        double weight = event.viewDelta() * VIEW_WEIGHT
+                + event.likeDelta() * LIKE_WEIGHT
+                + event.commentDelta() * COMMENT_WEIGHT;
+        add(event.postId(), weight);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            remove(event.postId());
+        }
+    }
+
+    // 점수 상위 limit개 게시글 ID
+    public List<Long> top(int limit) {
+        List<Long> postIds = new ArrayList<>(limit);
+        Iterator<Entry> iterator = ranking.iterator();
+        while (postIds.size() < limit && iterator.hasNext()) {
+            postIds.add(iterator.next().postId());
+        }
+        return postIds;
+    }
+
+    // 현재 시각 기준 가중치 weight 추가
+    public void add(Long postId, double weight) {
+        if (weight == 0) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            double scaled = weight * Math.pow(2, (double) (System.currentTimeMillis() - baseTime) / halfLifeMillis);
+            scores.compute(postId, (id, old) -> {
+                double updated = Math.max((old == null ? 0 : old) + scaled, 0);
+                if (old != null) {
+                    ranking.remove(new Entry(old, id));
+                }
+                ranking.add(new Entry(updated, id));
+                return updated;
+            });
+            evictOverflow();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.readLock().lock();
+        try {
+            scores.computeIfPresent(postId, (id, old) -> {
+                ranking.remove(new Entry(old, id));
+                return null;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기준 시각을 현재로 옮기고 모든 점수를 경과 시간만큼 감쇠
+    @Scheduled(fixedDelayString = "${trending.rebase-interval-ms:60000}")
+    public void rebase() {
+        lock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            double factor = Math.pow(0.5, (double) (now - baseTime) / halfLifeMillis);
+            List<Entry> entries = new ArrayList<>(ranking);
+            ranking.clear();
+            scores.clear();
+            for (Entry entry : entries) {
+                double decayed = entry.score() * factor;
+                if (decayed >= MIN_SCORE) {
+                    ranking.add(new Entry(decayed, entry.postId()));
+                    scores.put(entry.postId(), decayed);
+                }
+            }
+            baseTime = now;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 추적 게시글 수가 maxTracked를 넘으면 점수가 가장 낮은 게시글부터 제외 (읽기 락을 잡은 상태에서 호출)
+    private void evictOverflow() {
+        while (scores.size() > maxTracked) {
+            Entry lowest = ranking.pollLast();
+            if (lowest == null) {
+                return;
+            }
+            scores.remove(lowest.postId(), lowest.score());
+        }
+    }
+}
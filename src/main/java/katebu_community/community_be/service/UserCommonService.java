@@ -12,9 +12,17 @@ public class UserCommonService {
 
     private final UserRepository userRepository;
 
-    // userId로 유저 조회
+    // userId로 유저 조회 (탈퇴 처리 중인 계정 제외)
     public User getUserOrThrow(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDisabled())
                 .orElseThrow(() -> new EmailNotFoundException("회원 조회 실패"));
     }
+
+    // 회원 존재 확인만 필요한 쓰기 경로용 (탈퇴 처리 중인 계정 제외)
+    public void checkActiveUser(Long userId) {
+        if (!userRepository.existsByIdAndDisabledFalse(userId)) {
+            throw new EmailNotFoundException("회원 조회 실패");
+        }
+    }
 }
@@ -1,35 +1,37 @@
 package katebu_community.community_be.service;
 
-import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.AccountDeletionJob;
 import katebu_community.community_be.domain.User;
 import katebu_community.community_be.dto.UserDto;
+import katebu_community.community_be.event.UserProfileChangedEvent;
 import katebu_community.community_be.exception.DuplicateException;
-import katebu_community.community_be.repository.CommentRepository;
-import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.AccountDeletionJobRepository;
 import katebu_community.community_be.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
-
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final RefreshTokenService refreshTokenService;
     private final FileUploadService fileUploadService;
     private final UserCommonService userCommonService;
+    private final AccountDeletionJobRepository accountDeletionJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     // 회원정보 조회
     @Transactional(readOnly = true)
     public UserDto getUserById(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDisabled())
                 .map(user -> UserDto.builder()
                         .userId(user.getId())
                         .nickname(user.getNickname())
@@ -62,6 +64,7 @@ public class UserService {
 
         // 수정된 회원 저장 및 DTO 변환
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         return UserDto.builder()
                 .userId(user.getId())
                 .nickname(user.getNickname())
@@ -71,33 +74,39 @@ public class UserService {
     }
 
     // 비밀번호 변경
-    @Transactional
+    // BCrypt 풀을 기다리는 동안 DB 커넥션을 잡지 않도록 해시를 먼저 만들고 트랜잭션 시작
     public void changePassword(Long userId, String newPassword) {
-        // 회원 조회
-        User user = userCommonService.getUserOrThrow(userId);
+        // 회원 확인 (없는 회원이면 해시 생성 전에 중단)
+        userCommonService.checkActiveUser(userId);
 
-        // 비밀번호 수정
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        // 새 비밀번호 해시 생성 (BCrypt 전용 풀)
+        String encodedPassword = passwordHasher.encode(newPassword);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 회원 조회 및 비밀번호 수정
+            User user = userCommonService.getUserOrThrow(userId);
+            user.setPassword(encodedPassword);
+            userRepository.save(user);
+
+            // 기존 리프레시 토큰 폐기 (다른 기기는 다시 로그인 필요)
+            refreshTokenService.revokeAll(userId);
+        });
     }
 
     // 회원 탈퇴
+    // 계정만 바로 비활성화하고, 실제 데이터 삭제는 AccountDeletionJobRunner가 나눠서 처리
     @Transactional
     public void deleteUser(Long userId) {
         // 회원 조회
         User user = userCommonService.getUserOrThrow(userId);
 
-        // 회원 삭제 전 게시글과 댓글 삭제
-        List<Post> posts = postRepository.findByUserId(userId);
-        for (Post post : posts) {
-            commentRepository.deleteByPostId(post.getId());
-        }
-        postRepository.deleteByUserId(userId);
-
-        // 프로필 이미지 삭제
-        fileUploadService.deleteImage(user.getProfileUrl());
-
-        // 회원 삭제
-        userRepository.delete(user);
+        // 계정 비활성화, 리프레시 토큰 폐기 및 탈퇴 작업 등록
+        user.setDisabled(true);
+        refreshTokenService.revokeAll(userId);
+        accountDeletionJobRepository.save(AccountDeletionJob.builder()
+                .userId(userId)
+                .phase(AccountDeletionJob.Phase.LIKES)
+                .build());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 }
@@ -0,0 +1,88 @@
+package katebu_community.community_be.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 집계기 (write-behind)
+// 조회 시에는 메모리 카운터(LongAdder, 스레드별로 분산된 셀)만 증가시키고,
+// 주기적으로 누적분을 한 번의 배치 UPDATE로 DB에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountAggregator {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_cnt = view_cnt + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID -> 아직 DB에 반영되지 않은 조회수
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public int getPending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : (int) adder.sum();
+    }
+
+    // 누적된 조회수를 DB에 반영
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<LongAdder> adders = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                // 조회가 없던 게시글은 제거 (제거 직후 들어온 증가분은 다시 합침)
+                if (pending.remove(entry.getKey(), adder)) {
+                    long late = adder.sumThenReset();
+                    if (late != 0) {
+                        pending.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(late);
+                    }
+                }
+                continue;
+            }
+            // 읽은 만큼만 차감해서 반영 중에 들어온 증가분은 유지
+            adder.add(-delta);
+            batch.add(new Object[]{delta, entry.getKey()});
+            adders.add(adder);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 되돌림
+            log.error("조회수 반영 실패: {}", e.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                adders.get(i).add((Long) batch.get(i)[0]);
+            }
+        }
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,63 @@
+package katebu_community.community_be.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// (long, long) 쌍에 대한 블룸 필터
+// mightContain이 false면 확실히 없음, true면 있을 수도 있음 (오탐 가능, 삭제 불가)
+// 비트 설정은 CAS로 처리하므로 여러 스레드에서 동시에 사용 가능
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(long a, long b) {
+        long hash = hash(a, b);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(long a, long b) {
+        long hash = hash(a, b);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        while (((current = bits.get(word)) & mask) == 0) {
+            if (bits.compareAndSet(word, current, current | mask)) {
+                return;
+            }
+        }
+    }
+
+    private static long hash(long a, long b) {
+        return HashUtils.mix64(HashUtils.mix64(a) + b);
+    }
+}
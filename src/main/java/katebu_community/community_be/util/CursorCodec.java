@@ -0,0 +1,43 @@
+package katebu_community.community_be.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (createdAt, id) 키셋 페이징용 커서 인코더/디코더
+// 클라이언트에는 내부 구조를 알 수 없는 불투명한 문자열로 전달
+public final class CursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private CursorCodec() {
+    }
+
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    // 커서 생성
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 해석 (형식이 잘못된 경우 IllegalArgumentException)
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx <= 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서 값");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.parseLong(raw.substring(idx + 1));
+            return new Cursor(createdAt, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException, Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서 값", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package katebu_community.community_be.util;
+
+public final class HashUtils {
+
+    private HashUtils() {
+    }
+
+    // 64비트 해시 섞기 (MurmurHash3 finalizer)
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,115 @@
+package katebu_community.community_be.util;
+
+// long 값 전용 해시 셋 (오픈 어드레싱, 박싱 없음)
+// 스레드 안전하지 않으므로 여러 스레드에서 사용할 때는 외부에서 동기화
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean hasEmptyKey; // 0은 빈 칸 표시에 쓰므로 따로 관리
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size + (hasEmptyKey ? 1 : 0);
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return hasEmptyKey;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            boolean added = !hasEmptyKey;
+            hasEmptyKey = true;
+            return added;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > keys.length * LOAD_FACTOR) {
+            resize(keys.length << 1);
+        }
+        return true;
+    }
+
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            boolean removed = hasEmptyKey;
+            hasEmptyKey = false;
+            return removed;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                shiftKeysBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    // 삭제된 칸 뒤에 이어진 키들을 앞으로 당겨서 탐색 경로 유지
+    private void shiftKeysBack(int gap) {
+        int slot = (gap + 1) & mask;
+        while (keys[slot] != EMPTY) {
+            int home = slot(keys[slot]);
+            // home이 (gap, slot] 구간 밖에 있으면 gap 자리로 이동 가능
+            boolean movable = (gap <= slot) ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (movable) {
+                keys[gap] = keys[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        long[] old = keys;
+        keys = new long[capacity];
+        mask = capacity - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private int slot(long key) {
+        return (int) HashUtils.mix64(key) & mask;
+    }
+}
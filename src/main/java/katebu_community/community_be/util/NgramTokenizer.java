@@ -0,0 +1,53 @@
+package katebu_community.community_be.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+// 검색용 문자 n-gram 토크나이저
+// 형태소 분석 없이 한국어를 검색할 수 있도록 단어(문자/숫자 연속 구간)마다 2-gram을 만들고,
+// 한 글자 단어는 1-gram으로 색인. 토큰은 문자열 대신 int로 인코딩 (2-gram: (c1 << 16) | c2, 1-gram: c)
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    // 텍스트 앞 maxChars자까지 토큰화 (중복 포함, 등장 순서대로)
+    public static int[] tokenize(String text, int maxChars) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+        String normalized = Normalizer.normalize(
+                text.length() > maxChars ? text.substring(0, maxChars) : text, Normalizer.Form.NFKC);
+
+        int[] tokens = new int[Math.max(normalized.length(), 1)];
+        int count = 0;
+        char prev = 0;      // 현재 단어의 직전 문자 (단어 밖이면 0)
+        int runLength = 0;  // 현재 단어 길이
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                c = Character.toLowerCase(c);
+                if (runLength > 0) {
+                    tokens[count++] = (prev << 16) | c;
+                }
+                prev = c;
+                runLength++;
+            } else {
+                if (runLength == 1) {
+                    tokens[count++] = prev;
+                }
+                prev = 0;
+                runLength = 0;
+            }
+        }
+        if (runLength == 1) {
+            tokens[count++] = prev;
+        }
+        return count == tokens.length ? tokens : Arrays.copyOf(tokens, count);
+    }
+
+    // 중복을 제거한 토큰 (검색어용)
+    public static int[] distinct(int[] tokens) {
+        return Arrays.stream(tokens).distinct().toArray();
+    }
+}
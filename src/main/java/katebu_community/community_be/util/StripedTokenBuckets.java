@@ -0,0 +1,113 @@
+package katebu_community.community_be.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 키별 토큰 버킷 (스트라이프 단위로 잠금을 나눠서 경합 감소)
+// - 각 스트라이프는 접근 순서 LinkedHashMap으로, 최대 키 수를 넘거나 idleNanos 동안 사용되지 않은 버킷은 제거
+// - 제거된 키는 다음 요청 때 가득 찬 버킷으로 다시 시작 (idleNanos가 버킷이 다 차는 시간 이상이면 결과 동일)
+public final class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int maxKeysPerStripe;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+
+    private static final class Stripe {
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastAccessNanos;
+    }
+
+    // stripeCount는 2의 거듭제곱으로 올림, refillPerSecond는 초당 채워지는 토큰 수
+    public StripedTokenBuckets(int stripeCount, int maxKeys, int capacity, double refillPerSecond, long idleNanos) {
+        int count = 1;
+        while (count < stripeCount) {
+            count <<= 1;
+        }
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = count - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / count);
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000.0;
+        this.idleNanos = idleNanos;
+    }
+
+    // 토큰 1개 사용 시도. 성공하면 0, 실패하면 다음 토큰까지 남은 시간(ns)
+    public long tryAcquire(String key, long nowNanos) {
+        Stripe stripe = stripes[(int) HashUtils.mix64(key.hashCode()) & stripeMask];
+        synchronized (stripe) {
+            evictIdle(stripe, nowNanos);
+
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket();
+                bucket.tokens = capacity;
+                bucket.lastRefillNanos = nowNanos;
+                stripe.buckets.put(key, bucket);
+                if (stripe.buckets.size() > maxKeysPerStripe) {
+                    Iterator<Bucket> eldest = stripe.buckets.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            bucket.lastAccessNanos = nowNanos;
+
+            // 지난 시간만큼 토큰 채우기
+            long elapsed = nowNanos - bucket.lastRefillNanos;
+            if (elapsed > 0) {
+                bucket.tokens = Math.min(capacity, bucket.tokens + elapsed * tokensPerNano);
+                bucket.lastRefillNanos = nowNanos;
+            }
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        }
+    }
+
+    // tryAcquire로 사용한 토큰 1개 되돌리기 (용량을 넘지 않음, 이미 제거된 키면 무시)
+    public void refund(String key) {
+        Stripe stripe = stripes[(int) HashUtils.mix64(key.hashCode()) & stripeMask];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) {
+                bucket.tokens = Math.min(capacity, bucket.tokens + 1);
+            }
+        }
+    }
+
+    // 현재 보관 중인 키 수
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    // 접근 순서상 앞쪽(오래 사용되지 않은)부터 idleNanos가 지난 버킷 제거
+    private void evictIdle(Stripe stripe, long nowNanos) {
+        Iterator<Map.Entry<String, Bucket>> iterator = stripe.buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (nowNanos - iterator.next().getValue().lastAccessNanos < idleNanos) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package katebu_community.community_be.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 토큰 SHA-256 다이제스트 (메모리 캐시/인덱스 키, DB 저장용)
+// 토큰 원문 대신 다이제스트만 보관해서 메모리나 DB가 노출되어도 토큰을 알 수 없게 함
+public record TokenDigest(long h1, long h2, long h3, long h4) {
+
+    // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성
+    public static TokenDigest of(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return fromBytes(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    public static TokenDigest fromBytes(byte[] hash) {
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(32).putLong(h1).putLong(h2).putLong(h3).putLong(h4).array();
+    }
+}
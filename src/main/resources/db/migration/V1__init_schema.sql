@@ -0,0 +1,86 @@
+-- 초기 스키마 (엔티티 기준)
+-- 기존에 ddl-auto=update로 만들어진 DB도 baseline-version=0으로 이 스크립트를 실행하므로
+-- 테이블은 없을 때만 만들고, 기존 테이블에 없는 컬럼은 조건부로 추가
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGINT       NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    nickname    VARCHAR(255) NOT NULL,
+    profile_url VARCHAR(500),
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6),
+    disabled    BIT(1)       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS posts (
+    id          BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    title       VARCHAR(26) NOT NULL,
+    content     LONGTEXT    NOT NULL,
+    img_url     VARCHAR(500),
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6),
+    view_cnt    INT         NOT NULL DEFAULT 0,
+    like_cnt    INT         NOT NULL DEFAULT 0,
+    comment_cnt INT         NOT NULL DEFAULT 0,
+    deleted     BIT(1)      NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    content    TEXT        NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 좋아요는 INSERT IGNORE로만 추가 (AUTO_INCREMENT 유지, 게시글 정리 작업을 위해 FK 없음)
+CREATE TABLE IF NOT EXISTS likes (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    post_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- @TableGenerator용 ID 할당 테이블 (IdSequences 참고)
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS account_deletion_jobs (
+    user_id        BIGINT      NOT NULL,
+    phase          VARCHAR(20) NOT NULL,
+    processed_rows BIGINT      NOT NULL DEFAULT 0,
+    attempts       INT         NOT NULL DEFAULT 0,
+    last_error     VARCHAR(500),
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6),
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 기존 DB의 users, posts 테이블에는 없는 컬럼 추가
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE users ADD COLUMN disabled BIT(1) NOT NULL DEFAULT 0', 'SELECT 1')
+             FROM information_schema.columns
+             WHERE table_schema = DATABASE() AND table_name = 'users' AND column_name = 'disabled');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE posts ADD COLUMN deleted BIT(1) NOT NULL DEFAULT 0', 'SELECT 1')
+             FROM information_schema.columns
+             WHERE table_schema = DATABASE() AND table_name = 'posts' AND column_name = 'deleted');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
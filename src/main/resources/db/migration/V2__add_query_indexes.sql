@@ -0,0 +1,74 @@
+-- 조회 경로별 인덱스
+-- ddl-auto=update로 같은 이름의 인덱스가 이미 만들어진 DB가 있으므로 없을 때만 생성
+
+-- 유니크 인덱스 전에 기존 중복 좋아요 정리 (가장 먼저 추가된 행만 남기고, 해당 게시글의 like_cnt 다시 계산)
+CREATE TEMPORARY TABLE likes_duplicated_posts AS
+SELECT DISTINCT l1.post_id
+FROM likes l1
+         JOIN likes l2 ON l1.post_id = l2.post_id AND l1.user_id = l2.user_id AND l1.id > l2.id;
+
+DELETE l1
+FROM likes l1
+         JOIN likes l2 ON l1.post_id = l2.post_id AND l1.user_id = l2.user_id AND l1.id > l2.id;
+
+UPDATE posts p
+    JOIN likes_duplicated_posts d ON d.post_id = p.id
+SET p.like_cnt = (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id);
+
+DROP TEMPORARY TABLE likes_duplicated_posts;
+
+-- 좋아요 중복 방지 + 게시글별 좋아요 조회/삭제
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE UNIQUE INDEX uk_likes_post_user ON likes (post_id, user_id)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'likes' AND index_name = 'uk_likes_post_user');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 사용자가 좋아요한 게시글 조회
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_likes_user_post ON likes (user_id, post_id)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'likes' AND index_name = 'idx_likes_user_post');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 게시글 목록 (createdAt DESC, id DESC) 페이징
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_posts_created_id ON posts (created_at, id)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_created_id');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 회원별 게시글 조회
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_posts_user ON posts (user_id)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_user');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- soft-delete된 게시글 정리
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_posts_deleted ON posts (deleted)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_deleted');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 게시글별 댓글 목록 (createdAt, id) 페이징
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_comments_post_created_id ON comments (post_id, created_at, id)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_comments_post_created_id');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 진행 중인 탈퇴 작업 조회
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_account_deletion_jobs_phase ON account_deletion_jobs (phase)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'account_deletion_jobs' AND index_name = 'idx_account_deletion_jobs_phase');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,15 @@
+-- 회원별 게시글 목록 (user_id = ? ORDER BY created_at DESC, id DESC) 커서 페이징용 인덱스
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_posts_user_created_id ON posts (user_id, created_at, id)', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_user_created_id');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- user_id 단일 인덱스는 위 인덱스의 앞부분과 겹치므로 삭제 (fk_posts_user도 새 인덱스 사용)
+SET @stmt = (SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_posts_user ON posts', 'SELECT 1')
+             FROM information_schema.statistics
+             WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_user');
+PREPARE stmt FROM @stmt;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,14 @@
+-- 리프레시 토큰 (토큰 원문 대신 SHA-256 다이제스트 저장, 회원 삭제 시 함께 정리하므로 FK 없음)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash BINARY(32)  NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    family_id  BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    used       BIT(1)      NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_hash UNIQUE (token_hash),
+    INDEX idx_refresh_tokens_family (family_id),
+    INDEX idx_refresh_tokens_user (user_id),
+    INDEX idx_refresh_tokens_expires (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
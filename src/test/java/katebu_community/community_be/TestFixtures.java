@@ -0,0 +1,30 @@
+package katebu_community.community_be;
+
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+
+import java.util.UUID;
+
+// 통합 테스트 공통 데이터 (저장 전 빌더를 반환하므로 필요한 값만 바꿔서 사용)
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    // 이메일, 닉네임이 테스트마다 고유한 회원
+    public static User.UserBuilder user() {
+        String id = UUID.randomUUID().toString();
+        return User.builder()
+                .email("test_" + id + "@example.com")
+                .password("pw")
+                .nickname(id.substring(0, 10));
+    }
+
+    // 작성자의 게시글
+    public static Post.PostBuilder post(User writer) {
+        return Post.builder()
+                .user(writer)
+                .title("제목")
+                .content("내용");
+    }
+}
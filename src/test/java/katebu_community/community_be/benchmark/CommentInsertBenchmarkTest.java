@@ -0,0 +1,103 @@
+package katebu_community.community_be.benchmark;
+
+import jakarta.persistence.EntityManager;
+import katebu_community.community_be.TestFixtures;
+import katebu_community.community_be.domain.Comment;
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+import katebu_community.community_be.repository.CommentRepository;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.UserRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 댓글 대량 INSERT 처리량 비교 (./gradlew benchmark 로 실행)
+// - 배치 없음: IDENTITY와 동일하게 INSERT마다 DB 왕복 (JDBC 배치 크기 1)
+// - 배치 사용: pooled ID 생성 + hibernate.jdbc.batch_size
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommentInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManager em;
+
+    private User writer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(TestFixtures.user().build());
+        post = postRepository.save(TestFixtures.post(writer).title("벤치마크").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE post_id = ?", post.getId());
+        postRepository.deleteById(post.getId());
+        userRepository.deleteById(writer.getId());
+    }
+
+    @Test
+    void 댓글_대량_삽입_처리량() {
+        // 워밍업
+        insertComments(1, 500);
+        insertComments(50, 500);
+
+        double unbatched = 0;
+        double batched = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            unbatched += insertComments(1, ROWS);
+            batched += insertComments(50, ROWS);
+        }
+        unbatched /= ROUNDS;
+        batched /= ROUNDS;
+
+        System.out.printf("[benchmark] 댓글 %d건 INSERT - 배치 없음: %.0f rows/s, 배치(50): %.0f rows/s (x%.1f)%n",
+                ROWS, unbatched, batched, batched / unbatched);
+        Long inserted = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comments WHERE post_id = ?", Long.class, post.getId());
+        assertThat(inserted).isEqualTo(2L * (500 + ROUNDS * ROWS));
+    }
+
+    // 한 트랜잭션에서 rows개 댓글 저장 후 초당 INSERT 수 반환
+    private double insertComments(int jdbcBatchSize, int rows) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            em.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            Post postRef = postRepository.getReferenceById(post.getId());
+            User userRef = userRepository.getReferenceById(writer.getId());
+            List<Comment> comments = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                comments.add(Comment.builder()
+                        .content("댓글 " + i)
+                        .post(postRef)
+                        .user(userRef)
+                        .build());
+            }
+            commentRepository.saveAll(comments);
+        });
+        long elapsed = System.nanoTime() - start;
+        return rows / (elapsed / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,121 @@
+package katebu_community.community_be.benchmark;
+
+import jakarta.persistence.EntityManager;
+import katebu_community.community_be.TestFixtures;
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+import katebu_community.community_be.dto.PostSummaryView;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 본문(LONGTEXT) 50KB 게시글 목록 조회 비교 (./gradlew benchmark 로 실행)
+// - 엔티티 조회: Post 엔티티 페이지 조회 (본문까지 전송, 영속성 컨텍스트에 적재)
+// - 프로젝션 조회: 목록용 PostSummaryView (본문 제외)
+// 스레드 할당 바이트로 페이지당 메모리 사용량, 반복 시간으로 초당 페이지 수 측정
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostListBodyBenchmarkTest {
+
+    private static final int POSTS = 500;
+    private static final int BODY_SIZE = 50 * 1024;
+    private static final int PAGE_SIZE = 10;
+    private static final int ITERATIONS = 200;
+
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManager em;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(TestFixtures.user().build());
+
+        String body = "가".repeat(BODY_SIZE / 3); // UTF-8 기준 약 50KB
+        List<Post> posts = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(TestFixtures.post(writer)
+                    .title("벤치마크 " + i)
+                    .content(body)
+                    .build());
+        }
+        postRepository.saveAll(posts);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts WHERE user_id = ?", writer.getId());
+        userRepository.deleteById(writer.getId());
+    }
+
+    @Test
+    void 목록조회_본문_포함_여부_비교() {
+        PageRequest page = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        Supplier<Integer> entityRead = () -> postRepository.findAll(page).getNumberOfElements();
+        Supplier<Integer> summaryRead = () -> postRepository.findSummarySlice(PageRequest.of(0, PAGE_SIZE))
+                .getNumberOfElements();
+
+        // 워밍업
+        measure(entityRead, 20);
+        measure(summaryRead, 20);
+
+        Result entity = measure(entityRead, ITERATIONS);
+        Result summary = measure(summaryRead, ITERATIONS);
+
+        System.out.printf("[benchmark] 게시글 목록 %d건/페이지 (본문 %dKB)%n", PAGE_SIZE, BODY_SIZE / 1024);
+        System.out.printf("[benchmark]   엔티티 조회:   %.0f pages/s, %.1f KB/page%n",
+                entity.pagesPerSecond(), entity.bytesPerPage() / 1024);
+        System.out.printf("[benchmark]   프로젝션 조회: %.0f pages/s, %.1f KB/page%n",
+                summary.pagesPerSecond(), summary.bytesPerPage() / 1024);
+
+        // 프로젝션은 본문을 읽지 않으므로 페이지당 할당량이 본문 전체(10건)보다 작아야 함
+        assertThat(summary.bytesPerPage()).isLessThan(entity.bytesPerPage());
+        assertThat(summary.bytesPerPage()).isLessThan((double) BODY_SIZE * PAGE_SIZE);
+    }
+
+    private record Result(double pagesPerSecond, double bytesPerPage) {
+    }
+
+    // 페이지마다 별도 읽기 트랜잭션으로 조회 (영속성 컨텍스트에 쌓인 엔티티까지 할당량에 포함)
+    private Result measure(Supplier<Integer> read, int iterations) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Integer count = transactionTemplate.execute(status -> {
+                Integer result = read.get();
+                em.clear();
+                return result;
+            });
+            assertThat(count).isEqualTo(PAGE_SIZE);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Result(iterations / (elapsed / 1_000_000_000.0), (double) allocated / iterations);
+    }
+}
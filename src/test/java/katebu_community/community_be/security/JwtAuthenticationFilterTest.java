@@ -0,0 +1,95 @@
+package katebu_community.community_be.security;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공개 조회 요청은 잘못된 토큰이 와도 비회원으로 통과, 인증 필요 요청은 401
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "MDEyMzQ1Njc4OUFCQ0RFRjAxMjM0NTY3ODlBQkNERUY=";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaxSize", 10_000);
+        jwtTokenProvider.init();
+        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 게시글_목록은_잘못된_토큰이면_비회원으로_통과() throws Exception {
+        AtomicBoolean reached = new AtomicBoolean();
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("GET", "/posts", "garbage"), response, capture(reached, seen));
+
+        assertThat(reached).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(seen.get()).isNull();
+    }
+
+    @Test
+    void 게시글_목록은_유효한_토큰이면_회원으로_통과() throws Exception {
+        AtomicBoolean reached = new AtomicBoolean();
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        String token = jwtTokenProvider.createToken(7L);
+
+        filter.doFilter(request("GET", "/posts", token), new MockHttpServletResponse(), capture(reached, seen));
+
+        assertThat(reached).isTrue();
+        assertThat(seen.get().getPrincipal()).isEqualTo(7L);
+    }
+
+    @Test
+    void 인증_필요_요청은_잘못된_토큰이면_401() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("POST", "/posts/1/like", "garbage"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    // 다음 필터에 도달했을 때의 인증 정보 기록
+    private static MockFilterChain capture(AtomicBoolean reached, AtomicReference<Authentication> seen) {
+        return new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                reached.set(true);
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        };
+    }
+}
@@ -1,13 +1,21 @@
 package katebu_community.community_be.security;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.crypto.SecretKey;
+import java.util.Date;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class JwtTokenProviderTest {
 
+    private static final String SECRET = "MDEyMzQ1Njc4OUFCQ0RFRjAxMjM0NTY3ODlBQkNERUY=";
+
     private JwtTokenProvider jwtTokenProvider;
 
     @BeforeEach
@@ -15,7 +23,8 @@ class JwtTokenProviderTest {
         jwtTokenProvider = new JwtTokenProvider();
         // 테스트용 Base64 인코딩된 32바이트(256비트) 비밀키 예제
         // (예: "This is a test secret value!" 를 Base64 인코딩한 문자열)
-        ReflectionTestUtils.setField(jwtTokenProvider, "secret", "MDEyMzQ1Njc4OUFCQ0RFRjAxMjM0NTY3ODlBQkNERUY=");
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaxSize", 10_000);
         jwtTokenProvider.init(); // @PostConstruct와 동일한 역할 수행
     }
 
@@ -29,12 +38,55 @@ class JwtTokenProviderTest {
         String token = jwtTokenProvider.createToken(userId);
         assertNotNull(token, "생성된 토큰은 null이 아니어야 합니다.");
 
-        // 토큰에서 사용자 아이디 추출
-        String extractedUserId = jwtTokenProvider.getUserIdFromToken(token);
-        assertEquals(String.valueOf(userId), extractedUserId, "토큰에 저장된 사용자 아이디가 일치해야 합니다.");
+        // 토큰 검증 및 사용자 아이디 추출
+        Long extractedUserId = jwtTokenProvider.verify(token);
+        assertEquals(userId, extractedUserId, "토큰에 저장된 사용자 아이디가 일치해야 합니다.");
+
+        // 캐시된 토큰도 같은 결과
+        assertEquals(userId, jwtTokenProvider.verify(token), "캐시된 토큰의 사용자 아이디가 일치해야 합니다.");
+    }
+
+    // 변조된 토큰 검증 테스트
+    @Test
+    public void testVerifyTamperedToken() {
+        String token = jwtTokenProvider.createToken(123L);
+        jwtTokenProvider.verify(token); // 원래 토큰은 캐시됨
+
+        // 서명 첫 글자를 바꿔서 변조
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
 
-        // 토큰 유효성 검사
-        assertTrue(jwtTokenProvider.validateToken(token), "토큰이 유효해야 합니다.");
+        assertNull(jwtTokenProvider.verify(tampered), "변조된 토큰은 유효하지 않아야 합니다.");
+        assertNull(jwtTokenProvider.verify("not.a.token"), "형식이 잘못된 토큰은 유효하지 않아야 합니다.");
+        assertNull(jwtTokenProvider.verify(""), "빈 토큰은 유효하지 않아야 합니다.");
     }
 
-}
\ No newline at end of file
+    // 캐시된 토큰도 만료 시각이 지나면 거부되는지 테스트
+    @Test
+    public void testVerifyExpiredCachedToken() throws InterruptedException {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        String token = Jwts.builder()
+                .subject("123")
+                .expiration(new Date(System.currentTimeMillis() + 1000))
+                .signWith(key)
+                .compact();
+
+        assertEquals(123L, jwtTokenProvider.verify(token), "만료 전에는 유효해야 합니다.");
+
+        Thread.sleep(2000);
+        assertNull(jwtTokenProvider.verify(token), "만료된 토큰은 캐시에 있어도 유효하지 않아야 합니다.");
+    }
+
+    // 최대 개수를 넘으면 정리되고, 정리 후에도 검증 결과는 같은지 테스트
+    @Test
+    public void testVerifiedCacheIsBounded() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaxSize", 10);
+
+        for (long userId = 1; userId <= 100; userId++) {
+            assertEquals(userId, jwtTokenProvider.verify(jwtTokenProvider.createToken(userId)));
+            assertTrue(jwtTokenProvider.verifiedCacheSize() <= 10, "캐시 크기는 최대 개수를 넘지 않아야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package katebu_community.community_be.security;
+
+import katebu_community.community_be.security.RouteClassifier.Route;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기존 필터의 정규식 규칙과 RouteClassifier 분류 결과가 같은지 검증
+class RouteClassifierTest {
+
+    private static final List<String> METHODS = List.of("GET", "get", "POST", "PUT", "PATCH", "DELETE", "HEAD");
+
+    private static final List<String> PATHS = List.of(
+            "", "/", "/posts", "/posts/", "/posts/search", "/posts/trending", "/posts/searchx", "/posts/trend",
+            "/posts/1", "/posts/123456789012345678901234567890", "/posts/12a", "/posts/a12", "/posts/-1",
+            "/posts/1/", "/posts/1/comments", "/posts/1/comments/", "/posts/1/comment", "/posts/1/commentsx",
+            "/posts//comments", "/posts/1/2", "/posts/1/likes", "/posts/١٢", "/Posts", "/postsx",
+            "/user", "/user/", "/user/1", "/user/1/posts", "/user/1/posts/", "/user/1/post", "/user//posts",
+            "/user/abc/posts", "/user/1/postsx", "/user/password", "/users/1/posts",
+            "/uploads/", "/uploads/a.png", "/uploads", "/auth", "/auth/login", "/auth/register", "/authx",
+            "/comments", "/posts/1/comments?x=1");
+
+    @Test
+    void 기존_정규식_규칙과_분류_결과_동일() {
+        for (String method : METHODS) {
+            for (String path : PATHS) {
+                assertThat(RouteClassifier.classify(method, path))
+                        .as("%s %s", method, path)
+                        .isEqualTo(legacyClassify(method, path));
+            }
+        }
+    }
+
+    @Test
+    void 무작위_경로도_기존_규칙과_동일() {
+        String[] parts = {"/", "posts", "user", "comments", "search", "trending", "uploads", "auth",
+                "1", "42", "0", "x", "9a", "١"};
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder path = new StringBuilder();
+            int count = random.nextInt(7);
+            for (int j = 0; j < count; j++) {
+                path.append(parts[random.nextInt(parts.length)]);
+            }
+            String method = METHODS.get(random.nextInt(METHODS.size()));
+            assertThat(RouteClassifier.classify(method, path.toString()))
+                    .as("%s %s", method, path)
+                    .isEqualTo(legacyClassify(method, path.toString()));
+        }
+    }
+
+    @Test
+    void SecurityConfig_매처도_필터와_같은_판단() {
+        RequestMatcher publicRead = RouteClassifier.matcher(Route.PUBLIC_READ);
+        RequestMatcher uploads = RouteClassifier.matcher(Route.UPLOADS);
+        for (String method : List.of("GET", "POST", "DELETE")) {
+            for (String path : PATHS) {
+                MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+                request.setServletPath(path);
+                Route route = legacyClassify(method, path);
+                assertThat(publicRead.matches(request)).as("%s %s", method, path).isEqualTo(route == Route.PUBLIC_READ);
+                assertThat(uploads.matches(request)).as("%s %s", method, path).isEqualTo(route == Route.UPLOADS);
+            }
+        }
+    }
+
+    @Test
+    void 쿼리스트링은_서블릿_경로에_포함되지_않음() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/1/posts");
+        request.setServletPath("/user/1/posts");
+        request.setQueryString("cursor=abc");
+
+        assertThat(RouteClassifier.matcher(Route.PUBLIC_READ).matches(request)).isTrue();
+    }
+
+    // 기존 JwtAuthenticationFilter의 판단 (startsWith + String.matches)
+    private static Route legacyClassify(String method, String path) {
+        if (path.startsWith("/uploads/")) {
+            return Route.UPLOADS;
+        }
+        if (path.startsWith("/auth")) {
+            return Route.AUTH;
+        }
+        if ("GET".equalsIgnoreCase(method) &&
+                (path.equals("/posts") || path.equals("/posts/search") || path.equals("/posts/trending") || path.matches("^/posts/\\d+$") || path.matches("^/posts/\\d+/comments$")
+                        || path.matches("^/user/\\d+/posts$"))) {
+            return Route.PUBLIC_READ;
+        }
+        return Route.PROTECTED;
+    }
+}
@@ -0,0 +1,105 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.TestFixtures;
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+import katebu_community.community_be.repository.CommentRepository;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시에 댓글 작성/삭제 요청이 몰려도 댓글 수가 정확한지 검증
+// (각 요청이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 미사용)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommentConcurrencyTest {
+
+    private static final int COMMENT_COUNT = 100;
+
+    @Autowired private CommentService commentService;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User writer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(TestFixtures.user().build());
+        post = postRepository.save(TestFixtures.post(writer).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll(commentRepository.findAllByPostId(post.getId()));
+        postRepository.deleteById(post.getId());
+        userRepository.deleteById(writer.getId());
+    }
+
+    @Test
+    void 동시_댓글_작성_삭제시_댓글수_정확() throws Exception {
+        Long userId = writer.getId();
+        Long postId = post.getId();
+
+        // 1) COMMENT_COUNT건 동시 작성
+        List<Callable<Long>> creates = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            String content = "댓글 " + i;
+            creates.add(() -> commentService.createComment(userId, postId, content));
+        }
+        List<Long> commentIds = runConcurrently(creates);
+
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCnt()).isEqualTo(COMMENT_COUNT);
+        assertThat(commentRepository.findAllByPostId(postId)).hasSize(COMMENT_COUNT);
+
+        // 2) 작성한 댓글 동시 삭제
+        List<Callable<Long>> deletes = new ArrayList<>();
+        for (Long commentId : commentIds) {
+            deletes.add(() -> {
+                commentService.deleteComment(userId, postId, commentId);
+                return commentId;
+            });
+        }
+        runConcurrently(deletes);
+
+        assertThat(postRepository.findById(postId).orElseThrow().getCommentCnt()).isZero();
+        assertThat(commentRepository.findAllByPostId(postId)).isEmpty();
+    }
+
+    // 작업들을 16개 스레드에서 동시에 실행
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS)); // 예상하지 못한 예외(데드락 등)는 여기서 실패
+        }
+        executor.shutdown();
+        return results;
+    }
+}
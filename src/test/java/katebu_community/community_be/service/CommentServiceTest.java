@@ -0,0 +1,128 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.TestFixtures;
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+import katebu_community.community_be.dto.CommentListResponseDto;
+import katebu_community.community_be.exception.CommentNotFoundException;
+import katebu_community.community_be.exception.EmailNotFoundException;
+import katebu_community.community_be.exception.PostNotFoundException;
+import katebu_community.community_be.exception.UnauthorizedException;
+import katebu_community.community_be.repository.CommentRepository;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 댓글 작성 시 작성자 확인 (없는 회원, 탈퇴 처리 중인 회원 거절)
+// 댓글 삭제 시 게시글 ID, 작성자가 다르면 삭제하지 않음
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommentServiceTest {
+
+    @Autowired private CommentService commentService;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.save(TestFixtures.user().build());
+        post = postRepository.save(TestFixtures.post(writer).build());
+    }
+
+    @Test
+    void 없는_게시글에_댓글_작성시_예외() {
+        assertThatThrownBy(() -> commentService.createComment(post.getUser().getId(), Long.MAX_VALUE, "댓글"))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    void 없는_회원은_댓글_작성_불가() {
+        assertThatThrownBy(() -> commentService.createComment(-1L, post.getId(), "댓글"))
+                .isInstanceOf(EmailNotFoundException.class);
+
+        assertThat(commentRepository.findAllByPostId(post.getId())).isEmpty();
+        assertThat(postRepository.findCommentCntById(post.getId())).contains(0);
+    }
+
+    @Test
+    void 탈퇴_처리_중인_회원은_댓글_작성_불가() {
+        User disabled = userRepository.save(TestFixtures.user().disabled(true).build());
+
+        assertThatThrownBy(() -> commentService.createComment(disabled.getId(), post.getId(), "댓글"))
+                .isInstanceOf(EmailNotFoundException.class);
+
+        assertThat(commentRepository.findAllByPostId(post.getId())).isEmpty();
+    }
+
+    @Test
+    void 다른_게시글_ID로_댓글_삭제시_예외() {
+        Long writerId = post.getUser().getId();
+        Long commentId = commentService.createComment(writerId, post.getId(), "댓글");
+        Post otherPost = postRepository.save(TestFixtures.post(post.getUser()).build());
+
+        assertThatThrownBy(() -> commentService.deleteComment(writerId, otherPost.getId(), commentId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(commentRepository.existsById(commentId)).isTrue();
+        assertThat(postRepository.findCommentCntById(post.getId())).contains(1);
+        assertThat(postRepository.findCommentCntById(otherPost.getId())).contains(0);
+    }
+
+    @Test
+    void 작성자가_아니면_댓글_삭제_불가() {
+        Long commentId = commentService.createComment(post.getUser().getId(), post.getId(), "댓글");
+        User other = userRepository.save(TestFixtures.user().build());
+
+        assertThatThrownBy(() -> commentService.deleteComment(other.getId(), post.getId(), commentId))
+                .isInstanceOf(UnauthorizedException.class);
+
+        assertThat(commentRepository.existsById(commentId)).isTrue();
+        assertThat(postRepository.findCommentCntById(post.getId())).contains(1);
+    }
+
+    @Test
+    void 없는_댓글_삭제시_예외() {
+        assertThatThrownBy(() -> commentService.deleteComment(post.getUser().getId(), post.getId(), Long.MAX_VALUE))
+                .isInstanceOf(CommentNotFoundException.class);
+    }
+
+    @Test
+    void 작성자는_댓글_삭제_가능() {
+        Long commentId = commentService.createComment(post.getUser().getId(), post.getId(), "댓글");
+
+        commentService.deleteComment(post.getUser().getId(), post.getId(), commentId);
+
+        assertThat(commentRepository.existsById(commentId)).isFalse();
+        assertThat(postRepository.findCommentCntById(post.getId())).contains(0);
+    }
+
+    @Test
+    void cursor_size_없이_조회하면_첫_페이지만() {
+        for (int i = 0; i < 25; i++) {
+            commentService.createComment(post.getUser().getId(), post.getId(), "댓글 " + i);
+        }
+
+        CommentListResponseDto response = commentService.getComments(null, post.getId(), null, null);
+
+        assertThat(response.getCommentList()).hasSize(20);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getCommentCnt()).isEqualTo(25);
+
+        CommentListResponseDto next = commentService.getComments(null, post.getId(), response.getNextCursor(), null);
+        assertThat(next.getCommentList()).hasSize(5);
+        assertThat(next.isHasNext()).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.dto.PostSummaryDto;
+import katebu_community.community_be.event.PostCountersChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedCacheTest {
+
+    private FeedCache feedCache;
+
+    @BeforeEach
+    void setUp() {
+        feedCache = new FeedCache();
+        ReflectionTestUtils.setField(feedCache, "cachedPages", 3);
+        ReflectionTestUtils.setField(feedCache, "ttlMillis", 60_000L);
+    }
+
+    @Test
+    void 캐시_이후_증감량을_덧씌워서_응답() {
+        feedCache.put(0, feedCache.currentGeneration(), List.of(post(1L, 10, 2)), false);
+
+        feedCache.onCountersChanged(PostCountersChangedEvent.liked(1L, 1));
+        feedCache.onCountersChanged(PostCountersChangedEvent.commented(1L, 1));
+
+        PostSummaryDto cached = feedCache.get(0).posts().get(0);
+        assertThat(cached.getLikeCnt()).isEqualTo(11);
+        assertThat(cached.getCommentCnt()).isEqualTo(3);
+    }
+
+    @Test
+    void TTL_만료_후_다시_저장하면_증감량을_중복_반영하지_않음() {
+        feedCache.put(0, feedCache.currentGeneration(), List.of(post(1L, 10, 2)), false);
+        feedCache.onCountersChanged(PostCountersChangedEvent.liked(1L, 1));
+
+        // TTL 만료
+        ReflectionTestUtils.setField(feedCache, "ttlMillis", -1L);
+        assertThat(feedCache.get(0)).isNull();
+
+        // DB에서 다시 읽은 스냅샷에는 이미 좋아요 1개가 반영되어 있음
+        ReflectionTestUtils.setField(feedCache, "ttlMillis", 60_000L);
+        feedCache.put(0, feedCache.currentGeneration(), List.of(post(1L, 11, 2)), false);
+
+        assertThat(feedCache.get(0).posts().get(0).getLikeCnt()).isEqualTo(11);
+    }
+
+    @Test
+    void 여러_페이지에_있는_게시글은_모든_페이지에_반영() {
+        feedCache.put(0, feedCache.currentGeneration(), List.of(post(1L, 10, 0)), true);
+        feedCache.put(1, feedCache.currentGeneration(), List.of(post(1L, 10, 0)), false);
+
+        feedCache.onCountersChanged(PostCountersChangedEvent.liked(1L, 1));
+
+        assertThat(feedCache.get(0).posts().get(0).getLikeCnt()).isEqualTo(11);
+        assertThat(feedCache.get(1).posts().get(0).getLikeCnt()).isEqualTo(11);
+    }
+
+    private static PostSummaryDto post(Long postId, int likeCnt, int commentCnt) {
+        return PostSummaryDto.builder()
+                .postId(postId)
+                .title("제목")
+                .createdAt(LocalDateTime.now())
+                .likeCnt(likeCnt)
+                .commentCnt(commentCnt)
+                .viewCnt(0)
+                .writerId(1L)
+                .writerName("작성자")
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // 이메일당 2회, IP당 5회 (테스트 중에는 거의 충전되지 않음)
+        loginRateLimiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(loginRateLimiter, "emailCapacity", 2);
+        ReflectionTestUtils.setField(loginRateLimiter, "emailRefillPerMinute", 0.001);
+        ReflectionTestUtils.setField(loginRateLimiter, "ipCapacity", 5);
+        ReflectionTestUtils.setField(loginRateLimiter, "ipRefillPerMinute", 0.001);
+        ReflectionTestUtils.setField(loginRateLimiter, "maxKeys", 1_000);
+        ReflectionTestUtils.setField(loginRateLimiter, "idleTtlMillis", 600_000L);
+        loginRateLimiter.init();
+    }
+
+    @Test
+    void 이메일_한도로_거절된_시도는_IP_한도를_쓰지_않음() {
+        // 같은 IP에서 한 이메일로 반복 시도 (2회 이후 거절)
+        loginRateLimiter.acquire("a@example.com", "10.0.0.1");
+        loginRateLimiter.acquire("a@example.com", "10.0.0.1");
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> loginRateLimiter.acquire("a@example.com", "10.0.0.1"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        // 같은 IP의 다른 사용자는 남은 IP 한도(3회)만큼 로그인 가능
+        assertThatCode(() -> {
+            loginRateLimiter.acquire("b@example.com", "10.0.0.1");
+            loginRateLimiter.acquire("b@example.com", "10.0.0.1");
+            loginRateLimiter.acquire("c@example.com", "10.0.0.1");
+        }).doesNotThrowAnyException();
+        assertThatThrownBy(() -> loginRateLimiter.acquire("d@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+}
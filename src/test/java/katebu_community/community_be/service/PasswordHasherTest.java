@@ -0,0 +1,100 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개, 대기열 1칸인 풀
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4));
+        ReflectionTestUtils.setField(passwordHasher, "strength", 4);
+        ReflectionTestUtils.setField(passwordHasher, "threads", 1);
+        ReflectionTestUtils.setField(passwordHasher, "queueCapacity", 1);
+        ReflectionTestUtils.setField(passwordHasher, "timeoutMillis", 5000L);
+        passwordHasher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void 해시_생성_후_검증() {
+        String encoded = passwordHasher.encode("password1!");
+
+        assertThat(passwordHasher.matches("password1!", encoded)).isTrue();
+        assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    void 풀과_대기열이_가득_차면_바로_거절() throws Exception {
+        // 작업 스레드를 붙잡아 두고 대기열까지 채움
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        assertThat(passwordHasher.encodeInBackground("a", hash -> {
+            running.countDown();
+            awaitQuietly(release);
+        })).isTrue();
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(passwordHasher.encodeInBackground("b", hash -> { })).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> passwordHasher.matches("password", "$2a$04$abcdefghijklmnopqrstuu"))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(passwordHasher.encodeInBackground("c", hash -> { })).isFalse();
+        // 대기하지 않고 거절
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+        release.countDown();
+    }
+
+    @Test
+    void cost가_다르면_재해시_대상() {
+        String current = new BCryptPasswordEncoder(4).encode("pw");
+        String old = new BCryptPasswordEncoder(5).encode("pw");
+
+        assertThat(passwordHasher.needsRehash(current)).isFalse();
+        assertThat(passwordHasher.needsRehash(old)).isTrue();
+        assertThat(passwordHasher.needsRehash("plain")).isFalse();
+        assertThat(passwordHasher.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    void 백그라운드_재해시는_설정된_cost로_생성() throws Exception {
+        AtomicReference<String> result = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        passwordHasher.encodeInBackground("pw", hash -> {
+            result.set(hash);
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.get()).startsWith("$2a$04$");
+        assertThat(passwordHasher.matches("pw", result.get())).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.TestFixtures;
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+import katebu_community.community_be.exception.AlreadyLikedException;
+import katebu_community.community_be.exception.AlreadyUnlikedException;
+import katebu_community.community_be.repository.LikesRepository;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시에 좋아요/좋아요 취소 요청이 몰려도 좋아요 수가 정확한지 검증
+// (각 요청이 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 미사용)
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostLikeConcurrencyTest {
+
+    private static final int USER_COUNT = 300;
+    private static final int DUPLICATE_COUNT = 100;
+
+    @Autowired private PostService postService;
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private LikesRepository likesRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private User writer;
+    private Post post;
+    // 좋아요를 누를 회원 (좋아요는 탈퇴 처리 중이 아닌 회원만 가능)
+    private final List<Long> likerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(TestFixtures.user().build());
+        post = postRepository.save(TestFixtures.post(writer).build());
+        // 회원은 saveAll로 한 트랜잭션에서 저장
+        List<User> likers = userRepository.saveAll(IntStream.range(0, USER_COUNT)
+                .mapToObj(i -> TestFixtures.user().build())
+                .toList());
+        likers.forEach(liker -> likerIds.add(liker.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 검증 도중 실패해도 좋아요가 남지 않도록 먼저 정리
+        transactionTemplate.executeWithoutResult(status -> likesRepository.deleteByPostIdInBulk(post.getId()));
+        postRepository.deleteById(post.getId());
+        userRepository.deleteAllById(likerIds);
+        userRepository.deleteById(writer.getId());
+    }
+
+    @Test
+    void 동시_좋아요_추가_삭제시_좋아요수_정확() throws Exception {
+        Long postId = post.getId();
+
+        // 1) 서로 다른 사용자 USER_COUNT명 + 같은 사용자의 중복 요청 DUPLICATE_COUNT건
+        AtomicInteger alreadyLiked = new AtomicInteger();
+        runConcurrently(userId -> {
+            try {
+                postService.addLike(userId, postId);
+            } catch (AlreadyLikedException e) {
+                alreadyLiked.incrementAndGet();
+            }
+        });
+
+        assertThat(alreadyLiked.get()).isEqualTo(DUPLICATE_COUNT);
+        assertThat(postRepository.findById(postId).orElseThrow().getLikeCnt()).isEqualTo(USER_COUNT);
+        assertThat(likesRepository.countByPostId(postId)).isEqualTo(USER_COUNT);
+
+        // 2) 같은 방식으로 좋아요 취소
+        AtomicInteger alreadyUnliked = new AtomicInteger();
+        runConcurrently(userId -> {
+            try {
+                postService.deleteLike(userId, postId);
+            } catch (AlreadyUnlikedException e) {
+                alreadyUnliked.incrementAndGet();
+            }
+        });
+
+        assertThat(alreadyUnliked.get()).isEqualTo(DUPLICATE_COUNT);
+        assertThat(postRepository.findById(postId).orElseThrow().getLikeCnt()).isZero();
+        assertThat(likesRepository.countByPostId(postId)).isZero();
+    }
+
+    // 회원 USER_COUNT명의 요청과 앞쪽 DUPLICATE_COUNT명의 중복 요청을 32개 스레드에서 동시에 실행
+    private void runConcurrently(LongConsumer action) throws Exception {
+        List<Long> userIds = new ArrayList<>(likerIds);
+        userIds.addAll(likerIds.subList(0, DUPLICATE_COUNT));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long userId : userIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                action.accept(userId);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS); // 예상하지 못한 예외(데드락 등)는 여기서 실패
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,85 @@
+package katebu_community.community_be.service;
+
+import jakarta.persistence.EntityManager;
+import katebu_community.community_be.TestFixtures;
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+import katebu_community.community_be.repository.CommentRepository;
+import katebu_community.community_be.repository.LikesRepository;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 댓글 수가 기준 이상이면 soft-delete 후 PostPurgeJob이 정리하는지 검증
+@SpringBootTest(properties = "post.delete.soft-delete-threshold=3")
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostPurgeJobTest {
+
+    @Autowired private PostService postService;
+    @Autowired private CommentService commentService;
+    @Autowired private PostPurgeJob postPurgeJob;
+    @Autowired private PostRepository postRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private LikesRepository likesRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager em;
+
+    private User writer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(TestFixtures.user().build());
+        post = postRepository.save(TestFixtures.post(writer).build());
+    }
+
+    @Test
+    void 댓글이_적은_게시글은_즉시_삭제() {
+        Long postId = post.getId();
+        commentService.createComment(writer.getId(), postId, "댓글");
+        postService.addLike(writer.getId(), postId);
+
+        postService.deletePost(writer.getId(), postId);
+        em.flush();
+        em.clear();
+
+        assertThat(postRepository.findById(postId)).isEmpty();
+        assertThat(postRepository.findSoftDeletedIds(Integer.MAX_VALUE)).doesNotContain(postId);
+        assertThat(commentRepository.findAllByPostId(postId)).isEmpty();
+        assertThat(likesRepository.countByPostId(postId)).isZero();
+    }
+
+    @Test
+    void 댓글이_많은_게시글은_soft_delete_후_정리() {
+        Long postId = post.getId();
+        for (int i = 0; i < 3; i++) {
+            commentService.createComment(writer.getId(), postId, "댓글 " + i);
+        }
+        postService.addLike(writer.getId(), postId);
+
+        // soft-delete: 조회되지 않지만 댓글/좋아요는 남아 있음
+        postService.deletePost(writer.getId(), postId);
+        em.flush();
+        em.clear();
+
+        assertThat(postRepository.findById(postId)).isEmpty();
+        assertThat(postRepository.findSoftDeletedIds(Integer.MAX_VALUE)).contains(postId);
+        assertThat(commentRepository.findAllByPostId(postId)).hasSize(3);
+
+        // 정리 작업 실행 후 모두 삭제
+        postPurgeJob.purge();
+
+        assertThat(postRepository.findSoftDeletedIds(Integer.MAX_VALUE)).doesNotContain(postId);
+        assertThat(commentRepository.findAllByPostId(postId)).isEmpty();
+        assertThat(likesRepository.countByPostId(postId)).isZero();
+    }
+}
@@ -0,0 +1,79 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex(mock(PostRepository.class));
+    }
+
+    @Test
+    void 한국어_부분_검색() {
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "스프링 부트 입문", "JPA와 함께 게시판 만들기", now);
+        index.index(2L, "오늘의 점심", "김치찌개를 먹었다", now);
+
+        assertThat(ids(index.search("스프링", 10))).containsExactly(1L);
+        assertThat(ids(index.search("김치찌개", 10))).containsExactly(2L);
+        assertThat(ids(index.search("jpa", 10))).containsExactly(1L);
+        assertThat(index.search("파이썬", 10)).isEmpty();
+    }
+
+    @Test
+    void 제목_일치가_본문_일치보다_우선() {
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "일상 기록", "오늘은 알고리즘 문제를 풀었다", now);
+        index.index(2L, "알고리즘 스터디", "모집합니다", now);
+
+        assertThat(ids(index.search("알고리즘", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 관련도가_같으면_최신글_우선() {
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "회고", "백엔드 회고", now.minusDays(90));
+        index.index(2L, "회고", "백엔드 회고", now);
+
+        assertThat(ids(index.search("백엔드 회고", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 수정_삭제_반영() {
+        LocalDateTime now = LocalDateTime.now();
+        index.index(1L, "자바", "스트림 정리", now);
+
+        index.index(1L, "코틀린", "코루틴 정리", now);
+        assertThat(index.search("스트림", 10)).isEmpty();
+        assertThat(ids(index.search("코루틴", 10))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("코루틴", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void 상위_k개만_반환() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 30; id++) {
+            index.index(id, "공지 " + id, "게시판 공지사항", now.minusDays(id));
+        }
+
+        assertThat(ids(index.search("공지사항", 5))).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    private List<Long> ids(List<PostSearchIndex.Hit> hits) {
+        return hits.stream().map(PostSearchIndex.Hit::postId).toList();
+    }
+}
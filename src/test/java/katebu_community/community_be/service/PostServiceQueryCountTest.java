@@ -0,0 +1,129 @@
+package katebu_community.community_be.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import katebu_community.community_be.TestFixtures;
+import katebu_community.community_be.domain.Likes;
+import katebu_community.community_be.domain.Post;
+import katebu_community.community_be.domain.User;
+import katebu_community.community_be.dto.PostDetailDto;
+import katebu_community.community_be.dto.PostListResponseDto;
+import katebu_community.community_be.repository.LikesRepository;
+import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 목록 조회 1회당 실행되는 SQL 문 수 검증 (작성자 N+1 방지)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostServiceQueryCountTest {
+
+    @Autowired private PostService postService;
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private LikesRepository likesRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private FeedCache feedCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 모두 다른 게시글 10개 생성
+        for (int i = 0; i < 10; i++) {
+            User user = userRepository.save(TestFixtures.user().build());
+            postRepository.save(TestFixtures.post(user).title("제목" + i).build());
+        }
+        // 영속성 컨텍스트를 비워서 작성자 엔티티가 캐시되지 않은 상태로 조회
+        entityManager.flush();
+        entityManager.clear();
+        feedCache.evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 커서_목록조회는_쿼리_한번() {
+        PostListResponseDto responseDto = postService.getPostsByCursor(null, null);
+
+        assertThat(responseDto.getPosts()).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 오프셋_목록조회는_쿼리_한번() {
+        PostListResponseDto responseDto = postService.getPosts(null, 0, false);
+
+        assertThat(responseDto.getPosts()).hasSize(10);
+        // Slice 조회이므로 count 쿼리 없이 목록 조회 1회 (작성자 수와 무관)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 회원별_목록조회는_회원확인과_목록_쿼리만() {
+        // 게시글 12개를 작성한 회원
+        User writer = userRepository.save(TestFixtures.user().build());
+        for (int i = 0; i < 12; i++) {
+            postRepository.save(TestFixtures.post(writer).title("내 글" + i).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        PostListResponseDto firstPage = postService.getUserPosts(null, writer.getId(), null);
+
+        assertThat(firstPage.getPosts()).hasSize(10);
+        assertThat(firstPage.getPosts()).allMatch(post -> post.getWriterId().equals(writer.getId()));
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        // 회원 확인 1회 + 목록 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        PostListResponseDto secondPage = postService.getUserPosts(null, writer.getId(), firstPage.getNextCursor());
+
+        assertThat(secondPage.getPosts()).hasSize(2);
+        assertThat(secondPage.isLast()).isTrue();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 상세조회_캐시미스는_좋아요여부까지_쿼리_한번() {
+        User writer = userRepository.save(TestFixtures.user().build());
+        User viewer = userRepository.save(TestFixtures.user().build());
+        Post liked = postRepository.save(TestFixtures.post(writer).title("좋아요한 글").build());
+        Post notLiked = postRepository.save(TestFixtures.post(writer).title("다른 글").build());
+        likesRepository.save(Likes.builder().postId(liked.getId()).userId(viewer.getId()).build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        PostDetailDto likedDetail = postService.getPostDetail(viewer.getId(), liked.getId());
+
+        assertThat(likedDetail.isLiked()).isTrue();
+        assertThat(likedDetail.isAuthor()).isFalse();
+        assertThat(likedDetail.getWriter().getWriterId()).isEqualTo(writer.getId());
+        // 게시글 + 작성자 + 좋아요 여부를 한 번에 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        PostDetailDto notLikedDetail = postService.getPostDetail(viewer.getId(), notLiked.getId());
+        PostDetailDto guestDetail = postService.getPostDetail(null, liked.getId());
+
+        assertThat(notLikedDetail.isLiked()).isFalse();
+        assertThat(guestDetail.isLiked()).isFalse();
+        // 두 번째 게시글만 DB 조회, 비회원 조회는 캐시 사용
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -1,19 +1,23 @@
 package katebu_community.community_be.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import katebu_community.community_be.domain.Post;
-import katebu_community.community_be.domain.User;
 import katebu_community.community_be.dto.PageableInfoDto;
 import katebu_community.community_be.dto.PostListResponseDto;
 import katebu_community.community_be.dto.PostSummaryDto;
+import katebu_community.community_be.dto.PostSummaryView;
 import katebu_community.community_be.repository.PostRepository;
+import katebu_community.community_be.util.CursorCodec;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,12 +25,12 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +39,15 @@ public class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostCountCache postCountCache;
+
+    @Mock
+    private FeedCache feedCache;
+
+    @Mock
+    private ViewCountAggregator viewCountAggregator;
+
     @InjectMocks
     private PostService postService;
 
@@ -48,38 +61,21 @@ public class PostServiceTest {
         int page = 0;
         int pageSize = 10;
 
-        // 테스트용 writer 생성
-        String email = "test_" + UUID.randomUUID() + "@example.com"; // 테스트마다 고유한 이메일 생성
-        User user = User.builder()
-                .id(1L)
-                .nickname("테스터")
-                .email(email)
-                .profileUrl("http://example.com/profile.jpg")
-                .build();
-
-        // 테스트용 Post 생성
-        Post post = Post.builder()
-                .id(1L)
-                .title("제목")
-                .content("내용")
-                .createdAt(LocalDateTime.now())
-                .likeCnt(5)
-                .commentCnt(3)
-                .viewCnt(10)
-                .user(user)
-                .build();
-
-        List<Post> posts = List.of(post);
+        // 테스트용 게시글 프로젝션 생성 (작성자 정보 포함)
+        PostSummaryView post = summaryView(1L, "제목", LocalDateTime.now(), 5, 3, 10);
+
+        List<PostSummaryView> posts = List.of(post);
 
         // 페이징 설정
-        Pageable pageable = PageRequest.of(page, pageSize, Sort.by("createdAt").descending());
-        Page<Post> postPage = new PageImpl<>(posts, pageable, posts.size());
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Slice<PostSummaryView> postSlice = new SliceImpl<>(posts, pageable, false);
 
-        // postRepository Mock 설정
-        when(postRepository.findAll(any(Pageable.class))).thenReturn(postPage);
+        // postRepository, postCountCache Mock 설정
+        when(postRepository.findSummarySlice(any(Pageable.class))).thenReturn(postSlice);
+        when(postCountCache.getCount()).thenReturn(1L);
 
-        // 서비스 호출 (PostListResponseDto 반환)
-        PostListResponseDto responseDto = postService.getPosts(page);
+        // 서비스 호출 (PostListResponseDto 반환, 전체 개수 포함)
+        PostListResponseDto responseDto = postService.getPosts(null, page, true);
 
         // 검증
         // 1) posts 목록 검증
@@ -108,4 +104,67 @@ public class PostServiceTest {
         assertThat(responseDto.getSize()).isEqualTo(pageSize);
         assertThat(responseDto.getNumber()).isEqualTo(page);
     }
+
+    @Test
+    void 게시글_조회_전체개수_미포함() {
+        List<PostSummaryView> posts = List.of(summaryView(1L, "제목", LocalDateTime.now(), 0, 0, 0));
+        Slice<PostSummaryView> postSlice = new SliceImpl<>(posts, PageRequest.of(0, 10), true);
+        when(postRepository.findSummarySlice(any(Pageable.class))).thenReturn(postSlice);
+
+        PostListResponseDto responseDto = postService.getPosts(null, 0, false);
+
+        // 전체 개수는 계산하지 않고 다음 페이지 여부만 응답
+        assertThat(responseDto.getTotalPages()).isNull();
+        assertThat(responseDto.getTotalElements()).isNull();
+        assertThat(responseDto.isLast()).isFalse();
+        verifyNoInteractions(postCountCache);
+    }
+
+    @Test
+    void 게시글_커서_조회() {
+        // 최신순으로 정렬된 게시글 10개 (다음 페이지 있음)
+        LocalDateTime now = LocalDateTime.now();
+        List<PostSummaryView> posts = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> summaryView(100L - i, "제목" + i, now.minusMinutes(i), 0, 0, 0))
+                .collect(Collectors.toList());
+        Slice<PostSummaryView> postSlice = new SliceImpl<>(posts, PageRequest.of(0, 10), true);
+
+        when(postRepository.findSummarySlice(any(Pageable.class))).thenReturn(postSlice);
+
+        // 첫 페이지 조회
+        PostListResponseDto responseDto = postService.getPostsByCursor(null, null);
+
+        // 검증
+        assertThat(responseDto.getPosts()).hasSize(10);
+        assertThat(responseDto.isFirst()).isTrue();
+        assertThat(responseDto.isLast()).isFalse();
+        assertThat(responseDto.getNextCursor()).isNotNull();
+
+        // 다음 커서는 페이지의 마지막 게시글을 가리킴
+        PostSummaryView lastPost = posts.get(9);
+        CursorCodec.Cursor cursor = CursorCodec.decode(responseDto.getNextCursor());
+        assertThat(cursor.id()).isEqualTo(lastPost.getPostId());
+        assertThat(cursor.createdAt()).isEqualTo(lastPost.getCreatedAt());
+    }
+
+    @Test
+    void 게시글_커서_조회_잘못된_커서() {
+        assertThatThrownBy(() -> postService.getPostsByCursor(null, "잘못된커서"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 테스트용 목록 프로젝션 생성 (작성자는 고정)
+    private static PostSummaryView summaryView(Long id, String title, LocalDateTime createdAt,
+                                               int likeCnt, int commentCnt, int viewCnt) {
+        return new SpelAwareProxyProjectionFactory().createProjection(PostSummaryView.class, Map.of(
+                "postId", id,
+                "title", title,
+                "createdAt", createdAt,
+                "likeCnt", likeCnt,
+                "commentCnt", commentCnt,
+                "viewCnt", viewCnt,
+                "writerId", 1L,
+                "writerName", "테스터",
+                "writerImg", "http://example.com/profile.jpg"));
+    }
 }
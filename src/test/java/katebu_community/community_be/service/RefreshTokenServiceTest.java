@@ -0,0 +1,91 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.exception.InvalidRefreshTokenException;
+import katebu_community.community_be.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 리프레시 토큰 교체, 재사용 감지, 전체 폐기 검증
+// 폐기 후 인덱스 정리가 커밋 이후 이벤트로 처리되므로 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RefreshTokenServiceTest {
+
+    @Autowired private RefreshTokenService refreshTokenService;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    // 회원 FK가 없으므로 다른 테스트와 겹치지 않는 임의의 회원 ID 사용
+    private final Long userId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> refreshTokenService.revokeAll(userId));
+    }
+
+    @Test
+    void 교체하면_새_토큰_발급() {
+        String token = refreshTokenService.issue(userId);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(token);
+
+        assertThat(rotation.userId()).isEqualTo(userId);
+        assertThat(rotation.refreshToken()).isNotEqualTo(token);
+        assertThat(refreshTokenService.rotate(rotation.refreshToken()).userId()).isEqualTo(userId);
+    }
+
+    @Test
+    void 사용된_토큰_재사용하면_family_전체_폐기() {
+        String token = refreshTokenService.issue(userId);
+        String next = refreshTokenService.rotate(token).refreshToken();
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        // 정상 사용자가 받은 새 토큰도 함께 폐기
+        assertThatThrownBy(() -> refreshTokenService.rotate(next))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThat(refreshTokenRepository.findAll())
+                .noneMatch(saved -> saved.getUserId().equals(userId));
+    }
+
+    @Test
+    void 다른_family는_재사용_감지에_영향_없음() {
+        String stolen = refreshTokenService.issue(userId);
+        refreshTokenService.rotate(stolen);
+        String otherDevice = refreshTokenService.issue(userId);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(stolen))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        assertThat(refreshTokenService.rotate(otherDevice).userId()).isEqualTo(userId);
+    }
+
+    @Test
+    void 모르는_토큰은_거절() {
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void 전체_폐기_후에는_교체_불가() {
+        String first = refreshTokenService.issue(userId);
+        String second = refreshTokenService.issue(userId);
+
+        transactionTemplate.executeWithoutResult(status -> refreshTokenService.revokeAll(userId));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThatThrownBy(() -> refreshTokenService.rotate(second))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+}
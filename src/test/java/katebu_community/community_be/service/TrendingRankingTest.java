@@ -0,0 +1,71 @@
+package katebu_community.community_be.service;
+
+import katebu_community.community_be.event.PostCountersChangedEvent;
+import katebu_community.community_be.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TrendingRankingTest {
+
+    private TrendingRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new TrendingRanking(mock(PostRepository.class));
+        ReflectionTestUtils.setField(ranking, "halfLifeMillis", 3_600_000L);
+        ReflectionTestUtils.setField(ranking, "maxTracked", 100);
+    }
+
+    @Test
+    void 좋아요와_댓글이_조회보다_가중() {
+        // 조회 4회(4점) < 좋아요 1회(5점), 댓글 1회(3점) < 조회 4회
+        for (int i = 0; i < 4; i++) {
+            ranking.onCountersChanged(PostCountersChangedEvent.viewed(1L));
+        }
+        ranking.onCountersChanged(PostCountersChangedEvent.liked(2L, 1));
+        ranking.onCountersChanged(PostCountersChangedEvent.commented(3L, 1));
+
+        assertThat(ranking.top(10)).containsExactly(2L, 1L, 3L);
+        assertThat(ranking.top(2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 좋아요_취소와_게시글_삭제_반영() {
+        ranking.onCountersChanged(PostCountersChangedEvent.liked(1L, 1));
+        ranking.onCountersChanged(PostCountersChangedEvent.viewed(2L));
+        ranking.onCountersChanged(PostCountersChangedEvent.liked(1L, -1));
+
+        assertThat(ranking.top(10)).containsExactly(2L, 1L);
+
+        ranking.remove(2L);
+        assertThat(ranking.top(10)).containsExactly(1L);
+    }
+
+    @Test
+    void 오래된_점수는_감쇠() throws InterruptedException {
+        ReflectionTestUtils.setField(ranking, "halfLifeMillis", 50L);
+        ranking.add(1L, 10);
+        Thread.sleep(300); // 반감기 6번 이상 경과 -> 10 / 64 미만
+        ranking.add(2L, 1);
+
+        assertThat(ranking.top(10)).containsExactly(2L, 1L);
+
+        // rebase 후에도 순서 유지
+        ranking.rebase();
+        assertThat(ranking.top(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_낮은_점수부터_제외() {
+        ReflectionTestUtils.setField(ranking, "maxTracked", 3);
+        for (long id = 1; id <= 5; id++) {
+            ranking.add(id, id);
+        }
+
+        assertThat(ranking.top(10)).containsExactly(5L, 4L, 3L);
+    }
+}
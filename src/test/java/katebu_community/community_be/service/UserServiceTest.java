@@ -1,9 +1,13 @@
 package katebu_community.community_be.service;
 
+import jakarta.persistence.EntityManager;
+import katebu_community.community_be.TestFixtures;
 import katebu_community.community_be.domain.Comment;
 import katebu_community.community_be.domain.Post;
 import katebu_community.community_be.domain.User;
+import katebu_community.community_be.exception.EmailNotFoundException;
 import katebu_community.community_be.repository.CommentRepository;
+import katebu_community.community_be.repository.LikesRepository;
 import katebu_community.community_be.repository.PostRepository;
 import katebu_community.community_be.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -26,6 +31,11 @@ class UserServiceTest {
     @Autowired private UserRepository userRepository;
     @Autowired private PostRepository postRepository;
     @Autowired private CommentRepository commentRepository;
+    @Autowired private AccountDeletionJobRunner accountDeletionJobRunner;
+    @Autowired private PostService postService;
+    @Autowired private CommentService commentService;
+    @Autowired private LikesRepository likesRepository;
+    @Autowired private EntityManager em;
 
     @Test
     void 회원삭제시_게시글과댓글도_함께삭제() {
@@ -50,8 +60,14 @@ class UserServiceTest {
                 .user(user)
                 .build());
 
-        // when - 유저 삭제
+        // when - 유저 삭제 요청 (계정은 즉시 비활성화)
         userService.deleteUser(user.getId());
+        assertThat(userService.getUserById(user.getId())).isNull();
+
+        // 탈퇴 작업을 동기로 실행
+        accountDeletionJobRunner.run(user.getId());
+        em.flush();
+        em.clear();
 
         // then - 유저, 게시글, 댓글이 모두 삭제되었는지 확인
         assertThat(userRepository.findById(user.getId())).isEmpty();
@@ -59,4 +75,22 @@ class UserServiceTest {
         List<Comment> comments = commentRepository.findAllByPostId(post.getId());
         assertThat(comments).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 탈퇴_처리_중인_회원은_좋아요_댓글_작성_불가() {
+        // given - 탈퇴 요청한 회원과 다른 회원의 게시글
+        User writer = userRepository.save(TestFixtures.user().build());
+        Post post = postRepository.save(TestFixtures.post(writer).build());
+        User user = userRepository.save(TestFixtures.user().build());
+        userService.deleteUser(user.getId());
+        em.flush();
+
+        // when, then - 아직 유효한 토큰으로 요청해도 거절 (탈퇴 작업이 지운 행이 다시 생기지 않음)
+        assertThatThrownBy(() -> postService.addLike(user.getId(), post.getId()))
+                .isInstanceOf(EmailNotFoundException.class);
+        assertThatThrownBy(() -> commentService.createComment(user.getId(), post.getId(), "댓글"))
+                .isInstanceOf(EmailNotFoundException.class);
+        assertThat(likesRepository.countByPostId(post.getId())).isZero();
+        assertThat(commentRepository.findAllByPostId(post.getId())).isEmpty();
+    }
+}
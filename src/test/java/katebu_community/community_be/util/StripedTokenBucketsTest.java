@@ -0,0 +1,95 @@
+package katebu_community.community_be.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedTokenBucketsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void 용량만큼_허용_후_거절하고_시간이_지나면_다시_허용() {
+        // 용량 3, 초당 1개 충전
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4, 100, 3, 1.0, 60 * SECOND);
+        long now = 1_000 * SECOND;
+
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+
+        long wait = buckets.tryAcquire("a", now);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(SECOND);
+
+        // 다른 키는 영향 없음
+        assertThat(buckets.tryAcquire("b", now)).isZero();
+
+        // 1초 후 1개 충전
+        assertThat(buckets.tryAcquire("a", now + SECOND)).isZero();
+        assertThat(buckets.tryAcquire("a", now + SECOND)).isPositive();
+    }
+
+    @Test
+    void 충전은_용량을_넘지_않음() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 100, 2, 1.0, 3_600 * SECOND);
+        long now = 1_000 * SECOND;
+
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+        // 오래 지나도 최대 2개
+        long later = now + 100 * SECOND;
+        assertThat(buckets.tryAcquire("a", later)).isZero();
+        assertThat(buckets.tryAcquire("a", later)).isZero();
+        assertThat(buckets.tryAcquire("a", later)).isPositive();
+    }
+
+    @Test
+    void 최대_키_수를_넘으면_오래된_키부터_제거() {
+        // 스트라이프 1개, 최대 키 10개
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 10, 1, 1.0, 3_600 * SECOND);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 100; i++) {
+            buckets.tryAcquire("key" + i, now);
+        }
+
+        assertThat(buckets.size()).isEqualTo(10);
+    }
+
+    @Test
+    void 일정_시간_사용되지_않은_키는_제거() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 1_000, 1, 0.001, 10 * SECOND);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 50; i++) {
+            buckets.tryAcquire("key" + i, now);
+        }
+        assertThat(buckets.tryAcquire("key0", now)).isPositive();
+
+        // 유휴 시간이 지나면 다음 접근 때 정리되고 가득 찬 버킷으로 다시 시작
+        assertThat(buckets.tryAcquire("key0", now + 11 * SECOND)).isZero();
+        assertThat(buckets.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 되돌린_토큰은_다시_사용_가능() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 100, 2, 0.001, 3_600 * SECOND);
+        long now = 1_000 * SECOND;
+
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+        assertThat(buckets.tryAcquire("a", now)).isPositive();
+
+        buckets.refund("a");
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+
+        // 용량을 넘게 되돌리지 않음
+        buckets.refund("a");
+        buckets.refund("a");
+        buckets.refund("a");
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+        assertThat(buckets.tryAcquire("a", now)).isZero();
+        assertThat(buckets.tryAcquire("a", now)).isPositive();
+    }
+}